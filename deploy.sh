@@ -93,6 +93,7 @@ start_container() {
             -e DB_USERNAME="${DB_USERNAME}" \
             -e DB_PASSWORD="${DB_PASSWORD}" \
             -e JWT_SECRET="${JWT_SECRET}" \
+            -e OUTBOX_SINK="${OUTBOX_SINK:-file}" \
             -e TZ=Asia/Seoul \
             --memory="768m" \
             --memory-reservation="512m" \
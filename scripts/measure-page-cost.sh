@@ -0,0 +1,86 @@
+#!/bin/bash
+
+###############################################################################
+# 목록 조회 1건당 힙 할당량 / CPU 시간 측정 스크립트 (읽기 전용 세션 비교용)
+#
+# 컨테이너를 시작하고 사용자 100명 페이지(/api/users?size=100)를 REQUESTS 번 호출한 뒤
+# 요청당 할당 바이트(jvm.gc.memory.allocated 증가분)와 CPU 시간(/proc/1/stat)을 출력합니다.
+# 변경 전후 이미지를 같은 DB 로 실행하면 영속성 컨텍스트 스냅샷 비용 차이를 비교할 수 있습니다.
+#
+# 사용법:
+#   ./scripts/measure-page-cost.sh <image> [requests] [extra docker run args...]
+#
+# 예시 (before / after):
+#   ./scripts/measure-page-cost.sh smartwork:before 2000
+#   ./scripts/measure-page-cost.sh smartwork:latest 2000
+#
+# 필요 도구: hey (https://github.com/rakyll/hey), curl
+# 부하용 계정(ADMIN 권한 필요)은 LOGIN_USERNAME / LOGIN_PASSWORD,
+# DB 접속 정보는 DB_URL, DB_USERNAME, DB_PASSWORD 로 전달합니다.
+###############################################################################
+
+set -e
+
+IMAGE="${1:?image name required}"
+REQUESTS="${2:-2000}"
+shift 2 || shift $#
+
+CONTAINER_NAME="smartwork-page-cost-probe"
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:${PORT}"
+PAGE_PATH="/api/users?page=0&size=100"
+LOGIN_USERNAME="${LOGIN_USERNAME:-admin}"
+LOGIN_PASSWORD="${LOGIN_PASSWORD:-admin123}"
+
+trap 'docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true' EXIT
+
+docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true
+docker run -d --name "$CONTAINER_NAME" -p "${PORT}:8080" \
+    -e DB_URL="${DB_URL}" -e DB_USERNAME="${DB_USERNAME}" -e DB_PASSWORD="${DB_PASSWORD}" \
+    --memory=768m "$@" "$IMAGE" >/dev/null
+
+echo "Waiting for ${IMAGE} to become healthy..."
+until curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}/actuator/health" 2>/dev/null | grep -q 200; do
+    sleep 1
+done
+
+TOKEN=$(curl -s -X POST "${BASE_URL}/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${LOGIN_USERNAME}\",\"password\":\"${LOGIN_PASSWORD}\"}" \
+    | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+    echo "Login failed - check LOGIN_USERNAME / LOGIN_PASSWORD" >&2
+    exit 1
+fi
+
+# 누적 할당 바이트 (GC 시점마다 갱신되므로 요청 수를 충분히 크게 잡을 것)
+allocated_bytes() {
+    curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/jvm.gc.memory.allocated" \
+        | sed -n 's/.*"value":\([0-9.E+-]*\).*/\1/p'
+}
+
+# JVM 프로세스의 user + system CPU 시간 (clock tick)
+cpu_ticks() {
+    docker exec "$CONTAINER_NAME" cat /proc/1/stat | awk '{print $14 + $15}'
+}
+
+# JIT 워밍업 (결과 제외)
+hey -n 500 -c 4 -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}${PAGE_PATH}" >/dev/null
+
+ALLOC_BEFORE=$(allocated_bytes)
+CPU_BEFORE=$(cpu_ticks)
+
+echo "=== GET ${PAGE_PATH} x ${REQUESTS} ==="
+hey -n "$REQUESTS" -c 4 -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}${PAGE_PATH}" \
+    | grep -E 'Requests/sec|Average|95%|\[[0-9]+\]'
+
+ALLOC_AFTER=$(allocated_bytes)
+CPU_AFTER=$(cpu_ticks)
+CLK_TCK=$(docker exec "$CONTAINER_NAME" getconf CLK_TCK 2>/dev/null || echo 100)
+
+awk -v a0="$ALLOC_BEFORE" -v a1="$ALLOC_AFTER" -v c0="$CPU_BEFORE" -v c1="$CPU_AFTER" \
+    -v n="$REQUESTS" -v hz="$CLK_TCK" 'BEGIN {
+        printf "Allocated per page : %.1f KB\n", (a1 - a0) / n / 1024
+        printf "CPU time per page  : %.2f ms\n", (c1 - c0) * 1000 / hz / n
+    }'
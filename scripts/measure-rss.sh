@@ -0,0 +1,95 @@
+#!/bin/bash
+
+###############################################################################
+# 정상 상태 메모리(RSS) 측정 스크립트
+#
+# 컨테이너를 시작하고 일정 시간 부하(로그인 + 사용자 조회)를 건 뒤,
+# 컨테이너 내부 JVM 프로세스의 VmRSS 를 주기적으로 샘플링해서 최대/평균을 출력합니다.
+# 목표: low-memory 프로파일에서 정상 상태 RSS < 300MB
+#
+# 사용법:
+#   ./scripts/measure-rss.sh <image> [warmup-seconds] [sample-seconds] [extra docker run args...]
+#
+# 예시 (before / after):
+#   ./scripts/measure-rss.sh smartwork:latest 120 60
+#   ./scripts/measure-rss.sh smartwork:latest 120 60 \
+#       -e SPRING_PROFILES_ACTIVE=prod,low-memory -e JAVA_OPTS="$LOW_MEMORY_JAVA_OPTS"
+#
+# LOW_MEMORY_JAVA_OPTS 값은 Dockerfile 의 동일한 ENV 를 참고하세요.
+# 부하용 계정은 LOGIN_USERNAME / LOGIN_PASSWORD, DB 접속 정보는 DB_URL, DB_USERNAME, DB_PASSWORD 로 전달합니다.
+###############################################################################
+
+set -e
+
+IMAGE="${1:?image name required}"
+WARMUP_SECONDS="${2:-120}"
+SAMPLE_SECONDS="${3:-60}"
+shift 3 || shift $#
+
+CONTAINER_NAME="smartwork-rss-probe"
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:${PORT}"
+LOGIN_USERNAME="${LOGIN_USERNAME:-admin}"
+LOGIN_PASSWORD="${LOGIN_PASSWORD:-admin123}"
+CONCURRENCY="${CONCURRENCY:-8}"
+
+cleanup() {
+    kill $(jobs -p) >/dev/null 2>&1 || true
+    docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true
+docker run -d --name "$CONTAINER_NAME" -p "${PORT}:8080" \
+    -e DB_URL="${DB_URL}" -e DB_USERNAME="${DB_USERNAME}" -e DB_PASSWORD="${DB_PASSWORD}" \
+    --memory=768m "$@" "$IMAGE" >/dev/null
+
+echo "Waiting for ${IMAGE} to become healthy..."
+until curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}/actuator/health" 2>/dev/null | grep -q 200; do
+    sleep 1
+done
+
+TOKEN=$(curl -s -X POST "${BASE_URL}/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${LOGIN_USERNAME}\",\"password\":\"${LOGIN_PASSWORD}\"}" \
+    | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+    echo "Login failed - check LOGIN_USERNAME / LOGIN_PASSWORD" >&2
+    exit 1
+fi
+
+# 부하 생성: 로그인 + 목록/단건 조회를 동시에 반복
+load() {
+    while true; do
+        curl -s -o /dev/null -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/api/users?page=0&size=20"
+        curl -s -o /dev/null -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/api/users/1"
+        curl -s -o /dev/null -X POST "${BASE_URL}/api/auth/login" \
+            -H 'Content-Type: application/json' \
+            -d "{\"username\":\"${LOGIN_USERNAME}\",\"password\":\"${LOGIN_PASSWORD}\"}"
+    done
+}
+
+for _ in $(seq 1 "$CONCURRENCY"); do
+    load &
+done
+
+echo "Warming up for ${WARMUP_SECONDS}s (concurrency=${CONCURRENCY})..."
+sleep "$WARMUP_SECONDS"
+
+echo "Sampling RSS for ${SAMPLE_SECONDS}s..."
+samples=()
+for _ in $(seq 1 "$SAMPLE_SECONDS"); do
+    rss_kb=$(docker exec "$CONTAINER_NAME" sh -c \
+        "grep VmRSS /proc/\$(pgrep -f SmartWorkApplication | head -1)/status" | awk '{print $2}')
+    samples+=("$rss_kb")
+    sleep 1
+done
+
+printf '%s\n' "${samples[@]}" | awk '
+    { sum += $1; if ($1 > max) max = $1 }
+    END { printf "RSS avg=%.0fMB max=%.0fMB samples=%d\n", sum / NR / 1024, max / 1024, NR }'
+
+# JVM 관점의 힙/네이티브 분포 (low-memory 옵션의 NMT 포함)
+curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/memory" || true
+echo
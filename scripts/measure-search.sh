@@ -0,0 +1,83 @@
+#!/bin/bash
+
+###############################################################################
+# 사용자 검색 지연 시간 측정 스크립트
+#
+# 실행 중인 서버의 /api/users/search 에 이름/부서/직급/초성/입력 중 음절 질의로
+# hey 부하를 걸고, 이어서 서버 측 search.query 백분위(p50/p99)와 인덱스 크기를 출력합니다.
+# HTTP 지연은 네트워크와 직렬화를 포함하므로 목표(p99) 판단은 서버 측 값으로 합니다.
+#
+# 사용법:
+#   ./scripts/measure-search.sh <base-url> [duration] [concurrency]
+#
+# 예시 (scripts/seed-search-users.sql 로 200,000 명 생성 후):
+#   ./scripts/measure-search.sh http://localhost:8080 30s 16
+#
+# 필요 도구: hey (https://github.com/rakyll/hey), curl
+# 관리자 계정은 ADMIN_USERNAME / ADMIN_PASSWORD 로 전달합니다 (actuator 메트릭 조회용).
+###############################################################################
+
+set -e
+
+BASE_URL="${1:?base url required}"
+DURATION="${2:-30s}"
+CONCURRENCY="${3:-16}"
+ADMIN_USERNAME="${ADMIN_USERNAME:-admin}"
+ADMIN_PASSWORD="${ADMIN_PASSWORD:-admin123}"
+
+TOKEN=$(curl -s -X POST "${BASE_URL}/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${ADMIN_USERNAME}\",\"password\":\"${ADMIN_PASSWORD}\"}" \
+    | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+    echo "Login failed - check ADMIN_USERNAME / ADMIN_PASSWORD" >&2
+    exit 1
+fi
+
+urlencode() {
+    local LC_ALL=C out="" c i
+    for (( i = 0; i < ${#1}; i++ )); do
+        c="${1:i:1}"
+        case "$c" in
+            [a-zA-Z0-9.~_-]) out+="$c" ;;
+            *) out+=$(printf '%%%02X' "'$c") ;;
+        esac
+    done
+    echo "$out"
+}
+
+metric() {
+    curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/$1"
+}
+
+# 인덱스 준비 대기 (503 = 아직 빌드 중)
+until [ "$(curl -s -o /dev/null -w '%{http_code}' -H "Authorization: Bearer ${TOKEN}" \
+        "${BASE_URL}/api/users/search?q=$(urlencode '김')")" = "200" ]; do
+    sleep 1
+done
+
+# 이름 / 부서 / 직급 / 초성 / 입력 중 음절(홍기 → 홍길*) / 한 글자(전체 목록 스캔)
+QUERIES=("김민호" "민서" "개발" "과장" "ㄱㅁㅎ" "ㅂㅈ" "박서" "홍기" "김")
+
+# JIT 워밍업 (결과 제외)
+for q in "${QUERIES[@]}"; do
+    hey -z 5s -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" \
+        "${BASE_URL}/api/users/search?q=$(urlencode "$q")&limit=20" >/dev/null
+done
+
+for q in "${QUERIES[@]}"; do
+    echo "=== GET /api/users/search?q=${q} (${DURATION}, c=${CONCURRENCY}) ==="
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" \
+        "${BASE_URL}/api/users/search?q=$(urlencode "$q")&limit=20" \
+        | grep -E 'Requests/sec|50%|99%|\[[0-9]+\]'
+done
+
+echo "=== Server-side search.query (seconds, all queries since start) ==="
+metric "search.query.percentile?tag=phi:0.5" | sed -n 's/.*"statistic":"VALUE","value":\([^}]*\)}.*/  p50=\1/p'
+metric "search.query.percentile?tag=phi:0.99" | sed -n 's/.*"statistic":"VALUE","value":\([^}]*\)}.*/  p99=\1/p'
+
+echo "=== Index ==="
+metric "search.index.documents" | sed -n 's/.*"statistic":"VALUE","value":\([^}]*\)}.*/  documents=\1/p'
+metric "search.index.bytes" | sed -n 's/.*"statistic":"VALUE","value":\([^}]*\)}.*/  bytes=\1/p'
+metric "search.index.overlay" | sed -n 's/.*"statistic":"VALUE","value":\([^}]*\)}.*/  overlay=\1/p'
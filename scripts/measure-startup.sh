@@ -0,0 +1,68 @@
+#!/bin/bash
+
+###############################################################################
+# 시작 시간(Time-to-first-request) 측정 스크립트
+#
+# 컨테이너를 시작해서 /actuator/health 가 처음 200을 응답할 때까지의 시간을 측정합니다.
+# 이미지별로 여러 번 실행해서 최소/중앙값/최대를 출력합니다.
+#
+# 사용법:
+#   ./scripts/measure-startup.sh <image> [runs] [extra docker run args...]
+#
+# 예시 (before / after):
+#   docker build --build-arg CDS=false -t smartwork:baseline .
+#   docker build --build-arg GRADLE_ARGS=-PfastStart -t smartwork:fast .
+#   ./scripts/measure-startup.sh smartwork:baseline 5
+#   ./scripts/measure-startup.sh smartwork:fast 5 \
+#       -e FAST_START_OPTS=-Dspring.aot.enabled=true -e SPRING_PROFILES_ACTIVE=prod,fast-start
+#
+# DB 접속 정보는 .env 또는 환경 변수(DB_URL, DB_USERNAME, DB_PASSWORD)로 전달합니다.
+###############################################################################
+
+set -e
+
+IMAGE="${1:?image name required}"
+RUNS="${2:-5}"
+shift 2 || shift $#
+
+CONTAINER_NAME="smartwork-startup-probe"
+PORT="${PORT:-18080}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+
+results=()
+
+for i in $(seq 1 "$RUNS"); do
+    docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true
+
+    start=$(date +%s%N)
+    docker run -d --name "$CONTAINER_NAME" -p "${PORT}:8080" \
+        -e DB_URL="${DB_URL}" -e DB_USERNAME="${DB_USERNAME}" -e DB_PASSWORD="${DB_PASSWORD}" \
+        --memory=768m "$@" "$IMAGE" >/dev/null
+
+    until curl -sf "http://localhost:${PORT}/actuator/health" >/dev/null; do
+        now=$(date +%s%N)
+        if [ $(( (now - start) / 1000000000 )) -ge "$TIMEOUT_SECONDS" ]; then
+            echo "run $i: timed out after ${TIMEOUT_SECONDS}s" >&2
+            docker logs --tail 50 "$CONTAINER_NAME" >&2
+            docker rm -f "$CONTAINER_NAME" >/dev/null
+            exit 1
+        fi
+        sleep 0.1
+    done
+    end=$(date +%s%N)
+
+    elapsed_ms=$(( (end - start) / 1000000 ))
+    results+=("$elapsed_ms")
+    echo "run $i: ${elapsed_ms} ms"
+
+    docker rm -f "$CONTAINER_NAME" >/dev/null
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+count=${#sorted[@]}
+echo "----------------------------------------"
+echo "image:  $IMAGE"
+echo "runs:   $count"
+echo "min:    ${sorted[0]} ms"
+echo "median: ${sorted[$((count / 2))]} ms"
+echo "max:    ${sorted[$((count - 1))]} ms"
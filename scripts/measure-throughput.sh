@@ -0,0 +1,63 @@
+#!/bin/bash
+
+###############################################################################
+# 요청 처리량 측정 스크립트 (로깅 설정 비교용)
+#
+# 컨테이너를 시작하고 인증된 사용자 목록/단건 조회에 hey 로 부하를 걸어
+# 초당 요청 수(Requests/sec)와 지연 시간 분포를 출력합니다.
+# 같은 이미지를 프로파일만 바꿔 실행하면 로깅 비용 차이를 비교할 수 있습니다.
+#
+# 사용법:
+#   ./scripts/measure-throughput.sh <image> [duration] [concurrency] [extra docker run args...]
+#
+# 예시 (before / after):
+#   ./scripts/measure-throughput.sh smartwork:latest 60s 32 -e SPRING_PROFILES_ACTIVE=prod,dev
+#   ./scripts/measure-throughput.sh smartwork:latest 60s 32 -e SPRING_PROFILES_ACTIVE=prod
+#
+# 필요 도구: hey (https://github.com/rakyll/hey), curl
+# 부하용 계정은 LOGIN_USERNAME / LOGIN_PASSWORD, DB 접속 정보는 DB_URL, DB_USERNAME, DB_PASSWORD 로 전달합니다.
+###############################################################################
+
+set -e
+
+IMAGE="${1:?image name required}"
+DURATION="${2:-60s}"
+CONCURRENCY="${3:-32}"
+shift 3 || shift $#
+
+CONTAINER_NAME="smartwork-throughput-probe"
+PORT="${PORT:-18080}"
+BASE_URL="http://localhost:${PORT}"
+LOGIN_USERNAME="${LOGIN_USERNAME:-admin}"
+LOGIN_PASSWORD="${LOGIN_PASSWORD:-admin123}"
+
+trap 'docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true' EXIT
+
+docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true
+docker run -d --name "$CONTAINER_NAME" -p "${PORT}:8080" \
+    -e DB_URL="${DB_URL}" -e DB_USERNAME="${DB_USERNAME}" -e DB_PASSWORD="${DB_PASSWORD}" \
+    --memory=768m "$@" "$IMAGE" >/dev/null
+
+echo "Waiting for ${IMAGE} to become healthy..."
+until curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}/actuator/health" 2>/dev/null | grep -q 200; do
+    sleep 1
+done
+
+TOKEN=$(curl -s -X POST "${BASE_URL}/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${LOGIN_USERNAME}\",\"password\":\"${LOGIN_PASSWORD}\"}" \
+    | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+    echo "Login failed - check LOGIN_USERNAME / LOGIN_PASSWORD" >&2
+    exit 1
+fi
+
+# JIT 워밍업 (결과 제외)
+hey -z 20s -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/api/users?page=0&size=20" >/dev/null
+
+for path in "/api/users?page=0&size=20" "/api/users/1"; do
+    echo "=== GET ${path} (${DURATION}, c=${CONCURRENCY}) ==="
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}${path}" \
+        | grep -E 'Requests/sec|Average|50%|95%|99%|\[[0-9]+\]'
+done
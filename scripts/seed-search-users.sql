@@ -0,0 +1,32 @@
+-- 사용자 검색 벤치마크용 가상 사용자 200,000 명 생성 (Oracle)
+--
+-- 성 20 개 x 이름 음절 30 x 30 조합으로 이름을 만들고, 부서 12 개 / 직급 6 개를 순환 배정합니다.
+-- 비밀번호는 로그인에 쓰이지 않는 더미 값이며, 계정은 모두 ACTIVE 입니다.
+--
+-- 정리:
+--   DELETE FROM users WHERE username LIKE 'bench%';
+--   COMMIT;
+
+INSERT INTO users (user_id, username, password, email, employee_id, name, department, position,
+                   status, failed_login_attempts, version, created_at, created_by, is_deleted)
+SELECT USER_SEQ.NEXTVAL,
+       'bench' || n,
+       '{noop}not-a-login-account',
+       'bench' || n || '@bench.smartwork.local',
+       'B' || LPAD(n, 9, '0'),
+       SUBSTR('김이박최정강조윤장임한오서신권황안송류홍', MOD(n, 20) + 1, 1)
+           || SUBSTR('민서지현우준예도하수은시유재성영태주경승진혜소아나동기정상연희', MOD(TRUNC(n / 20), 30) + 1, 1)
+           || SUBSTR('호훈빈진연아윤수희영우민철석경은원현준재규혁숙미정선율하람비', MOD(TRUNC(n / 600), 30) + 1, 1),
+       CASE MOD(n, 12)
+           WHEN 0 THEN '개발1팀' WHEN 1 THEN '개발2팀' WHEN 2 THEN '인사팀' WHEN 3 THEN '재무팀'
+           WHEN 4 THEN '영업팀' WHEN 5 THEN '마케팅팀' WHEN 6 THEN '기획팀' WHEN 7 THEN '품질관리팀'
+           WHEN 8 THEN '고객지원팀' WHEN 9 THEN '구매팀' WHEN 10 THEN '법무팀' ELSE '인프라팀'
+       END,
+       CASE MOD(n, 6)
+           WHEN 0 THEN '사원' WHEN 1 THEN '대리' WHEN 2 THEN '과장'
+           WHEN 3 THEN '차장' WHEN 4 THEN '부장' ELSE '이사'
+       END,
+       'ACTIVE', 0, 0, SYSTIMESTAMP, 'SYSTEM', 0
+FROM (SELECT LEVEL AS n FROM dual CONNECT BY LEVEL <= 200000);
+
+COMMIT;
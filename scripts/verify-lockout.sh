@@ -0,0 +1,68 @@
+#!/bin/bash
+
+###############################################################################
+# 동시 로그인 실패 시 계정 잠금 임계값 검증 스크립트
+#
+# 한 계정에 잘못된 비밀번호 로그인을 ATTEMPTS 번, CONCURRENCY 개씩 동시에 보내고
+# 401(Invalid credentials) 응답이 정확히 MAX_FAILED_ATTEMPTS 번인지 확인합니다.
+# 실패 횟수가 유실되면 401 이 더 많아지고, 임계값을 넘겨 세면 잠금이 일찍 걸립니다.
+# 나머지는 403(Account is locked) 이어야 하며, 503 은 부하 제한에 걸린 요청이므로 제외합니다.
+# 검증이 끝나면 관리자 계정으로 대상 계정을 다시 활성화합니다.
+#
+# 사용법:
+#   ./scripts/verify-lockout.sh <base-url> <target-username> [attempts] [concurrency]
+#
+# 예시:
+#   ./scripts/verify-lockout.sh http://localhost:8080 lockout.probe 300 100
+#
+# 필요 도구: hey (https://github.com/rakyll/hey), curl
+# 관리자 계정은 ADMIN_USERNAME / ADMIN_PASSWORD, 임계값은 MAX_FAILED_ATTEMPTS(기본 5)로 전달합니다.
+# 대상 계정은 ACTIVE 상태이고 실패 횟수가 0 이어야 합니다.
+###############################################################################
+
+set -e
+
+BASE_URL="${1:?base url required}"
+TARGET_USERNAME="${2:?target username required}"
+ATTEMPTS="${3:-300}"
+CONCURRENCY="${4:-100}"
+MAX_FAILED_ATTEMPTS="${MAX_FAILED_ATTEMPTS:-5}"
+ADMIN_USERNAME="${ADMIN_USERNAME:-admin}"
+ADMIN_PASSWORD="${ADMIN_PASSWORD:-admin123}"
+
+RESULT=$(hey -n "$ATTEMPTS" -c "$CONCURRENCY" -m POST -T 'application/json' \
+    -d "{\"username\":\"${TARGET_USERNAME}\",\"password\":\"wrong-password-for-lockout-check\"}" \
+    "${BASE_URL}/api/auth/login")
+
+count_status() {
+    echo "$RESULT" | sed -n "s/.*\[$1\][[:space:]]*\([0-9]*\) responses.*/\1/p"
+}
+
+UNAUTHORIZED=$(count_status 401); UNAUTHORIZED=${UNAUTHORIZED:-0}
+LOCKED=$(count_status 403); LOCKED=${LOCKED:-0}
+SHED=$(count_status 503); SHED=${SHED:-0}
+
+echo "401 invalid credentials : ${UNAUTHORIZED}"
+echo "403 account locked      : ${LOCKED}"
+echo "503 shed by load limits : ${SHED}"
+
+# 대상 계정 잠금 해제 (관리자 일괄 상태 변경은 실패 횟수와 잠금 시간도 초기화)
+TOKEN=$(curl -s -X POST "${BASE_URL}/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${ADMIN_USERNAME}\",\"password\":\"${ADMIN_PASSWORD}\"}" \
+    | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+USER_ID=$(curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/api/users/username/${TARGET_USERNAME}" \
+    | sed -n 's/.*"data":{"id":\([0-9]*\).*/\1/p')
+if [ -n "$USER_ID" ]; then
+    curl -s -o /dev/null -X PUT "${BASE_URL}/api/users/bulk/status" \
+        -H "Authorization: Bearer ${TOKEN}" -H 'Content-Type: application/json' \
+        -d "{\"userIds\":[${USER_ID}],\"status\":\"ACTIVE\"}"
+else
+    echo "Could not reset ${TARGET_USERNAME} - unlock it manually" >&2
+fi
+
+if [ "$UNAUTHORIZED" -ne "$MAX_FAILED_ATTEMPTS" ]; then
+    echo "FAIL: expected exactly ${MAX_FAILED_ATTEMPTS} counted failures before the lock" >&2
+    exit 1
+fi
+echo "OK: account locked on failure ${MAX_FAILED_ATTEMPTS}"
@@ -0,0 +1,91 @@
+#!/bin/bash
+
+###############################################################################
+# 자동완성(typeahead) 응답 시간 검증 스크립트
+#
+# 실행 중인 서버의 /api/users/suggest 에 아이디/사번/이름/초성/입력 중 음절 접두어로
+# hey 부하를 건 뒤, 서버 측 suggest.query p99 가 목표(기본 2ms) 이하인지 확인합니다.
+# 한 글자 접두어처럼 후보가 많은 경우도 포함하며, 목표를 넘으면 종료 코드 1 을 반환합니다.
+# HTTP 지연(네트워크, JWT 인증, 직렬화 포함)은 참고용으로 함께 출력합니다.
+#
+# 사용법:
+#   ./scripts/verify-suggest-latency.sh <base-url> [duration] [concurrency]
+#
+# 예시 (scripts/seed-search-users.sql 로 200,000 명 생성 후, 재시작 직후 측정 권장):
+#   ./scripts/verify-suggest-latency.sh http://localhost:8080 30s 16
+#
+# 필요 도구: hey (https://github.com/rakyll/hey), curl, awk
+# 관리자 계정은 ADMIN_USERNAME / ADMIN_PASSWORD, 목표는 TARGET_P99_MS 로 전달합니다.
+# suggest.query 백분위는 서버 시작 이후 전체 요청 기준(최근 구간 감쇠 적용)입니다.
+###############################################################################
+
+set -e
+
+BASE_URL="${1:?base url required}"
+DURATION="${2:-30s}"
+CONCURRENCY="${3:-16}"
+ADMIN_USERNAME="${ADMIN_USERNAME:-admin}"
+ADMIN_PASSWORD="${ADMIN_PASSWORD:-admin123}"
+TARGET_P99_MS="${TARGET_P99_MS:-2}"
+
+TOKEN=$(curl -s -X POST "${BASE_URL}/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d "{\"username\":\"${ADMIN_USERNAME}\",\"password\":\"${ADMIN_PASSWORD}\"}" \
+    | sed -n 's/.*"accessToken":"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+    echo "Login failed - check ADMIN_USERNAME / ADMIN_PASSWORD" >&2
+    exit 1
+fi
+
+urlencode() {
+    local LC_ALL=C out="" c i
+    for (( i = 0; i < ${#1}; i++ )); do
+        c="${1:i:1}"
+        case "$c" in
+            [a-zA-Z0-9.~_-]) out+="$c" ;;
+            *) out+=$(printf '%%%02X' "'$c") ;;
+        esac
+    done
+    echo "$out"
+}
+
+metric_value() {
+    curl -s -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/actuator/metrics/$1" \
+        | sed -n 's/.*"statistic":"VALUE","value":\([^}]*\)}.*/\1/p'
+}
+
+# 인덱스 준비 대기 (503 = 아직 빌드 중)
+until [ "$(curl -s -o /dev/null -w '%{http_code}' -H "Authorization: Bearer ${TOKEN}" \
+        "${BASE_URL}/api/users/suggest?q=a")" = "200" ]; do
+    sleep 1
+done
+
+# 아이디 / 사번 / 이름 / 입력 중 음절(김ㅁ → 김민*) / 초성 / 한 글자(후보 최다)
+PREFIXES=("bench12" "b0000" "김민" "김ㅁ" "ㄱㅁㅎ" "b" "김" "ㄱ")
+
+# JIT 워밍업 (결과 제외)
+for q in "${PREFIXES[@]}"; do
+    hey -z 5s -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" \
+        "${BASE_URL}/api/users/suggest?q=$(urlencode "$q")&limit=10" >/dev/null
+done
+
+for q in "${PREFIXES[@]}"; do
+    echo "=== GET /api/users/suggest?q=${q} (${DURATION}, c=${CONCURRENCY}) ==="
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" \
+        "${BASE_URL}/api/users/suggest?q=$(urlencode "$q")&limit=10" \
+        | grep -E 'Requests/sec|50%|99%|\[[0-9]+\]'
+done
+
+P50=$(metric_value "suggest.query.percentile?tag=phi:0.5")
+P99=$(metric_value "suggest.query.percentile?tag=phi:0.99")
+echo "=== Server-side suggest.query ==="
+echo "  documents=$(metric_value suggest.index.documents) bytes=$(metric_value suggest.index.bytes)"
+awk -v p50="$P50" -v p99="$P99" 'BEGIN { printf "  p50=%.3fms p99=%.3fms\n", p50 * 1000, p99 * 1000 }'
+
+if awk -v p99="$P99" -v target="$TARGET_P99_MS" 'BEGIN { exit !(p99 * 1000 <= target) }'; then
+    echo "PASS: p99 <= ${TARGET_P99_MS}ms"
+else
+    echo "FAIL: p99 > ${TARGET_P99_MS}ms" >&2
+    exit 1
+fi
@@ -2,14 +2,14 @@ package com.smartwork;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * SmartWork Main Application Entry Point.
  * Enterprise intranet system for workflow management.
  */
 @SpringBootApplication
-@EnableJpaAuditing
+@EnableScheduling
 public class SmartWorkApplication {
 
     public static void main(String[] args) {
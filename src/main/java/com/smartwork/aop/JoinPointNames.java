@@ -0,0 +1,33 @@
+package com.smartwork.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Readable {@code Type.method} names for join points.
+ */
+final class JoinPointNames {
+
+    private static final Map<Class<?>, String> REPOSITORY_NAMES = new ConcurrentHashMap<>();
+
+    private JoinPointNames() {
+    }
+
+    /**
+     * Inherited Spring Data methods are declared on {@code CrudRepository} etc.; name them after
+     * the application's repository interface instead ({@code UserRepository.findAll})
+     */
+    static String repositoryMethod(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        String type = proxy == null
+            ? joinPoint.getSignature().getDeclaringType().getSimpleName()
+            : REPOSITORY_NAMES.computeIfAbsent(proxy.getClass(), proxyClass -> {
+                Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+                return interfaces.length > 0 ? interfaces[0].getSimpleName() : proxyClass.getSimpleName();
+            });
+        return type + "." + joinPoint.getSignature().getName();
+    }
+}
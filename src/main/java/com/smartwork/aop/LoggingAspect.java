@@ -1,5 +1,6 @@
 package com.smartwork.aop;
 
+import com.smartwork.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -42,9 +43,11 @@ public class LoggingAspect {
     private Object logExecution(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
         String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
         String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
 
-        log.debug("[{}] {}.{}() - ENTER with args: {}", layer, className, methodName, Arrays.toString(args));
+        // Argument rendering is the expensive part; skip it entirely unless DEBUG is on
+        if (log.isDebugEnabled()) {
+            log.debug("[{}] {}.{}() - ENTER with args: {}", layer, className, methodName, Arrays.toString(joinPoint.getArgs()));
+        }
 
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
@@ -53,7 +56,9 @@ public class LoggingAspect {
             Object result = joinPoint.proceed();
             stopWatch.stop();
 
-            log.info("[{}] {}.{}() - SUCCESS in {}ms", layer, className, methodName, stopWatch.getTotalTimeMillis());
+            if (log.isDebugEnabled()) {
+                log.debug("[{}] {}.{}() - SUCCESS in {}ms", layer, className, methodName, stopWatch.getTotalTimeMillis());
+            }
 
             if (stopWatch.getTotalTimeMillis() > 3000) {
                 log.warn("SLOW METHOD: {}.{}() took {}ms", className, methodName, stopWatch.getTotalTimeMillis());
@@ -61,9 +66,18 @@ public class LoggingAspect {
 
             return result;
 
+        } catch (BusinessException e) {
+            stopWatch.stop();
+            // Stack traces are logged once by GlobalExceptionHandler, not at every layer
+            if (e.getErrorCode().isExpected()) {
+                log.debug("[{}] {}.{}() - FAILED in {}ms: {}", layer, className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage());
+            } else {
+                log.warn("[{}] {}.{}() - FAILED in {}ms: {}", layer, className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage());
+            }
+            throw e;
         } catch (Exception e) {
             stopWatch.stop();
-            log.error("[{}] {}.{}() - FAILED in {}ms: {}", layer, className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage(), e);
+            log.warn("[{}] {}.{}() - FAILED in {}ms: {}", layer, className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage());
             throw e;
         }
     }
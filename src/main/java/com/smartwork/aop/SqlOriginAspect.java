@@ -0,0 +1,26 @@
+package com.smartwork.aop;
+
+import com.smartwork.sql.SqlOrigin;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags JDBC statements with the repository method that issued them (see {@link SqlOrigin}).
+ * Nested calls (default methods delegating to queries) report the innermost repository method.
+ */
+@Aspect
+@Component
+public class SqlOriginAspect {
+
+    @Around("execution(* com.smartwork.repository..*.*(..))")
+    public Object tagOrigin(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = SqlOrigin.enter(JoinPointNames.repositoryMethod(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlOrigin.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.smartwork.aop;
+
+import com.smartwork.tracing.SpanScope;
+import com.smartwork.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a span per controller, service and repository call, using the same pointcuts as {@link LoggingAspect}.
+ * Ordered first so the span also covers logging and transaction handling.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("com.smartwork.aop.LoggingAspect.controllerMethods()")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "CONTROLLER", null);
+    }
+
+    @Around("com.smartwork.aop.LoggingAspect.serviceMethods()")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "SERVICE", null);
+    }
+
+    /**
+     * Spring Data repositories are interface proxies, so also match by package
+     */
+    @Around("com.smartwork.aop.LoggingAspect.repositoryMethods() || execution(* com.smartwork.repository..*.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "REPOSITORY", JoinPointNames.repositoryMethod(joinPoint));
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer, String spanName) throws Throwable {
+        if (!tracer.isTracing()) {
+            return joinPoint.proceed();
+        }
+        String name = spanName != null ? spanName
+            : joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        try (SpanScope span = tracer.startSpan(layer, name)) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            }
+        }
+    }
+}
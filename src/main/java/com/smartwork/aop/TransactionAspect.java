@@ -1,5 +1,7 @@
 package com.smartwork.aop;
 
+import com.smartwork.exception.BusinessException;
+import com.smartwork.jfr.TransactionEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -23,13 +25,33 @@ public class TransactionAspect {
                   transactional.propagation(),
                   transactional.isolation());
 
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        String outcome = "rolledBack";
         try {
             Object result = joinPoint.proceed();
+            outcome = "committed";
             log.debug("Transaction committed: {}.{}()", className, methodName);
             return result;
+        } catch (BusinessException e) {
+            if (e.getErrorCode().isExpected()) {
+                log.debug("Transaction rolled back: {}.{}() - Reason: {}", className, methodName, e.getMessage());
+            } else {
+                log.error("Transaction rolled back: {}.{}() - Reason: {}", className, methodName, e.getMessage());
+            }
+            throw e;
         } catch (Exception e) {
             log.error("Transaction rolled back: {}.{}() - Reason: {}", className, methodName, e.getMessage());
             throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = className + "." + methodName;
+                event.readOnly = transactional.readOnly();
+                event.propagation = transactional.propagation().name();
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 }
@@ -0,0 +1,17 @@
+package com.smartwork.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * One field-level change captured from a committed entity update.
+ */
+public record ChangeLogEntry(
+    String entityType,
+    String entityId,
+    String fieldName,
+    String oldValue,
+    String newValue,
+    String changedBy,
+    LocalDateTime changedAt
+) {
+}
@@ -0,0 +1,101 @@
+package com.smartwork.audit;
+
+import com.smartwork.domain.BaseEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Captures field-level diffs of committed entity updates and hands them to {@link ChangeLogWriter}.
+ *
+ * <p>Registered as a Hibernate post-commit listener, so rolled-back updates are never logged.
+ * Only dirty properties are inspected; the work per update is bounded by the number of changed columns.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "audit.change-log.enabled", havingValue = "true")
+public class ChangeLogEventListener implements PostCommitUpdateEventListener {
+
+    private static final Set<String> IGNORED_FIELDS = Set.of("version", "updatedAt", "updatedBy");
+    private static final Set<String> MASKED_FIELDS = Set.of("password");
+    private static final String MASK = "********";
+    private static final int MAX_VALUE_LENGTH = 1000;   // characters; the columns are VARCHAR2(1000 CHAR)
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ChangeLogWriter changeLogWriter;
+
+    @PostConstruct
+    public void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        int[] dirtyProperties = event.getDirtyProperties();
+        Object[] oldState = event.getOldState();
+        if (dirtyProperties == null || oldState == null) {
+            return;
+        }
+
+        Object entity = event.getEntity();
+        String changedBy = null;
+        LocalDateTime changedAt = null;
+        if (entity instanceof BaseEntity baseEntity) {
+            changedBy = baseEntity.getUpdatedBy();
+            changedAt = baseEntity.getUpdatedAt();
+        }
+
+        String entityType = event.getPersister().getEntityName();
+        String entityId = String.valueOf(event.getId());
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+
+        for (int index : dirtyProperties) {
+            String field = propertyNames[index];
+            if (IGNORED_FIELDS.contains(field)) {
+                continue;
+            }
+            boolean masked = MASKED_FIELDS.contains(field);
+            changeLogWriter.enqueue(new ChangeLogEntry(
+                entityType,
+                entityId,
+                field,
+                masked ? MASK : stringify(oldState[index]),
+                masked ? MASK : stringify(state[index]),
+                changedBy,
+                changedAt));
+        }
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was queued before commit, so there is nothing to undo
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    private static String stringify(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = String.valueOf(value);
+        return text.length() > MAX_VALUE_LENGTH ? text.substring(0, MAX_VALUE_LENGTH) : text;
+    }
+}
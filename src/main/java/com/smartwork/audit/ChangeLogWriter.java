@@ -0,0 +1,93 @@
+package com.smartwork.audit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only writer for {@code audit_change_log}.
+ *
+ * <p>Entries are queued without blocking and written by the scheduler thread with JDBC batch
+ * inserts, so audit never adds latency to user writes. When the queue is full, entries are
+ * dropped and counted instead of applying back-pressure.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "audit.change-log.enabled", havingValue = "true")
+public class ChangeLogWriter {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO audit_change_log " +
+        "(change_id, entity_type, entity_id, field_name, old_value, new_value, changed_by, changed_at) " +
+        "VALUES (AUDIT_CHANGE_LOG_SEQ.NEXTVAL, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ChangeLogEntry> queue;
+    private final int batchSize;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ChangeLogWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${audit.change-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.change-log.batch-size:200}") int batchSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Queue an entry; never blocks the caller
+     */
+    public void enqueue(ChangeLogEntry entry) {
+        if (!queue.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audit.change-log.flush-interval-ms:1000}")
+    public void flush() {
+        long droppedSinceLastFlush = dropped.getAndSet(0);
+        if (droppedSinceLastFlush > 0) {
+            log.warn("Audit change log queue full: dropped={}", droppedSinceLastFlush);
+        }
+
+        List<ChangeLogEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                log.error("Failed to write audit change log batch: size={}, reason={}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(List<ChangeLogEntry> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            ps.setString(1, entry.entityType());
+            ps.setString(2, entry.entityId());
+            ps.setString(3, entry.fieldName());
+            ps.setString(4, entry.oldValue());
+            ps.setString(5, entry.newValue());
+            ps.setString(6, entry.changedBy());
+            ps.setTimestamp(7, entry.changedAt() != null ? Timestamp.valueOf(entry.changedAt()) : null);
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.smartwork.audit;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Resolves the auditor from the already-authenticated {@code SecurityContext}.
+ * Uses the principal name only, so no user lookup happens on the write path.
+ */
+@Component
+public class SecurityAuditorAware implements AuditorAware<String> {
+
+    public static final String SYSTEM_AUDITOR = "system";
+
+    @Override
+    public Optional<String> getCurrentAuditor() {
+        return Optional.of(currentAuditor());
+    }
+
+    /**
+     * Current principal name, or {@link #SYSTEM_AUDITOR} for anonymous and background work
+     */
+    public static String currentAuditor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return SYSTEM_AUDITOR;
+        }
+        return authentication.getName();
+    }
+}
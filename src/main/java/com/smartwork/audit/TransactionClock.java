@@ -0,0 +1,61 @@
+package com.smartwork.audit;
+
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+
+/**
+ * Audit clock that reads the time once per transaction.
+ *
+ * <p>Every entity persisted or updated in the same transaction gets the same
+ * {@code createdAt}/{@code updatedAt}, and bulk statements use the same instant via {@link #now()}.
+ * Outside a transaction it falls back to the current time.
+ */
+@Component
+public class TransactionClock implements DateTimeProvider {
+
+    private final Clock clock;
+
+    public TransactionClock() {
+        this(Clock.systemDefaultZone());
+    }
+
+    TransactionClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<TemporalAccessor> getNow() {
+        return Optional.of(now());
+    }
+
+    /**
+     * Timestamp shared by the current transaction
+     */
+    public LocalDateTime now() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return LocalDateTime.now(clock);
+        }
+
+        LocalDateTime cached = (LocalDateTime) TransactionSynchronizationManager.getResource(this);
+        if (cached != null) {
+            return cached;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        TransactionSynchronizationManager.bindResource(this, now);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransactionClock.this);
+            }
+        });
+        return now;
+    }
+}
@@ -0,0 +1,25 @@
+package com.smartwork.bulkhead;
+
+/**
+ * Route group of the request on this thread, read by {@link ConnectionSliceDataSource}.
+ * Threads outside a request (schedulers, event relays) have no group and are not sliced.
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<RouteGroup> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static RouteGroup current() {
+        return CURRENT.get();
+    }
+
+    static void set(RouteGroup group) {
+        CURRENT.set(group);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
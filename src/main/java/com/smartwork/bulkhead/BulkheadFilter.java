@@ -0,0 +1,129 @@
+package com.smartwork.bulkhead;
+
+import com.smartwork.exception.ErrorCode;
+import com.smartwork.exception.ErrorResponseWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gives each {@link RouteGroup} its own concurrency budget, so a login storm cannot occupy the
+ * threads that serve user lookups and bulk admin writes cannot delay logins.
+ *
+ * <p>A request waits up to the group's {@code max-wait-ms} for a slot and is rejected with 503
+ * otherwise. The group is also published to {@link BulkheadContext} for the connection slices.
+ * Rejections are marked with {@link #REJECTED_ATTRIBUTE} so the global concurrency limit ahead of
+ * this filter does not read a full compartment as server overload.
+ */
+@Slf4j
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public static final String REJECTED_ATTRIBUTE = BulkheadFilter.class.getName() + ".REJECTED";
+
+    private final BulkheadProperties properties;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Map<RouteGroup, Compartment> compartments = new EnumMap<>(RouteGroup.class);
+
+    public BulkheadFilter(BulkheadProperties properties, ErrorResponseWriter errorResponseWriter, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.errorResponseWriter = errorResponseWriter;
+        for (RouteGroup group : RouteGroup.values()) {
+            compartments.put(group, new Compartment(group, properties.groupFor(group), meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteGroup group = RouteGroup.classify(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Compartment compartment = compartments.get(group);
+        if (!compartment.acquire()) {
+            log.debug("Request rejected by bulkhead: group={}", group);
+            request.setAttribute(REJECTED_ATTRIBUTE, group);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(properties.getRetryAfterSeconds()));
+            errorResponseWriter.write(response, ErrorCode.SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        BulkheadContext.set(group);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            BulkheadContext.clear();
+            compartment.release();
+        }
+    }
+
+    private static final class Compartment {
+
+        private final Semaphore slots;
+        private final long maxWaitMs;
+        private final Timer queueTime;
+        private final Counter rejected;
+
+        Compartment(RouteGroup group, BulkheadProperties.Group config, MeterRegistry meterRegistry) {
+            this.slots = new Semaphore(config.getMaxConcurrent());
+            this.maxWaitMs = config.getMaxWaitMs();
+            String tag = group.name().toLowerCase();
+            this.queueTime = Timer.builder("bulkhead.queue.time")
+                .description("Time spent waiting for a bulkhead slot")
+                .tag("group", tag)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+            this.rejected = Counter.builder("bulkhead.rejected").tag("group", tag).register(meterRegistry);
+            Gauge.builder("bulkhead.available", slots, Semaphore::availablePermits)
+                .tag("group", tag)
+                .register(meterRegistry);
+        }
+
+        boolean acquire() {
+            if (slots.tryAcquire()) {
+                queueTime.record(0, TimeUnit.NANOSECONDS);
+                return true;
+            }
+            long start = System.nanoTime();
+            boolean acquired = false;
+            try {
+                acquired = maxWaitMs > 0 && slots.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queueTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejected.increment();
+            }
+            return acquired;
+        }
+
+        void release() {
+            slots.release();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartwork.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per route group budgets ({@code bulkhead.*}).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private int retryAfterSeconds = 1;
+
+    private Map<RouteGroup, Group> groups = new EnumMap<>(RouteGroup.class);
+
+    public Group groupFor(RouteGroup routeGroup) {
+        return groups.getOrDefault(routeGroup, Group.UNLIMITED);
+    }
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        static final Group UNLIMITED = new Group();
+
+        /**
+         * Requests of this group handled at once
+         */
+        private int maxConcurrent = Integer.MAX_VALUE;
+
+        /**
+         * How long a request may wait for a slot before it is rejected with 503
+         */
+        private long maxWaitMs = 0;
+
+        /**
+         * Connections this group may hold from the shared Hikari pool
+         */
+        private int connections = Integer.MAX_VALUE;
+
+        /**
+         * How long to wait for one of the group's connections
+         */
+        private long connectionWaitMs = 5000;
+    }
+}
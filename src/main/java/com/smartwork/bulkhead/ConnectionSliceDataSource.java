@@ -0,0 +1,150 @@
+package com.smartwork.bulkhead;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Splits the shared pool into per {@link RouteGroup} slices: a request may only hold as many
+ * connections as its group's {@code connections} budget. Threads without a group are not limited.
+ * The slice permit is returned when the connection is closed (handed back to Hikari).
+ */
+public class ConnectionSliceDataSource extends DelegatingDataSource {
+
+    private final Map<RouteGroup, Slice> slices = new EnumMap<>(RouteGroup.class);
+
+    public ConnectionSliceDataSource(DataSource target, BulkheadProperties properties, MeterRegistry meterRegistry) {
+        super(target);
+        for (RouteGroup group : RouteGroup.values()) {
+            BulkheadProperties.Group config = properties.groupFor(group);
+            if (config.getConnections() != Integer.MAX_VALUE) {
+                slices.put(group, new Slice(group, config, meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Slice slice = currentSlice();
+        if (slice == null) {
+            return super.getConnection();
+        }
+        slice.acquire();
+        try {
+            return slice.wrap(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            slice.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Slice slice = currentSlice();
+        if (slice == null) {
+            return super.getConnection(username, password);
+        }
+        slice.acquire();
+        try {
+            return slice.wrap(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            slice.release();
+            throw e;
+        }
+    }
+
+    private Slice currentSlice() {
+        RouteGroup group = BulkheadContext.current();
+        return group == null ? null : slices.get(group);
+    }
+
+    private static final class Slice {
+
+        private final RouteGroup group;
+        private final Semaphore permits;
+        private final long waitMs;
+        private final Timer waitTime;
+
+        Slice(RouteGroup group, BulkheadProperties.Group config, MeterRegistry meterRegistry) {
+            this.group = group;
+            this.permits = new Semaphore(config.getConnections());
+            this.waitMs = config.getConnectionWaitMs();
+            String tag = group.name().toLowerCase();
+            this.waitTime = Timer.builder("bulkhead.connection.wait")
+                .description("Time spent waiting for a connection from the group's slice")
+                .tag("group", tag)
+                .register(meterRegistry);
+            Gauge.builder("bulkhead.connections.available", permits, Semaphore::availablePermits)
+                .tag("group", tag)
+                .register(meterRegistry);
+        }
+
+        void acquire() throws SQLException {
+            long start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a " + group + " connection");
+            } finally {
+                waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                throw new SQLTransientConnectionException(
+                    "Connection slice for " + group + " exhausted after " + waitMs + "ms");
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        /**
+         * Release the permit exactly once, when the connection is closed
+         */
+        Connection wrap(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            release();
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.smartwork.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Traffic classes that get isolated concurrency and connection budgets.
+ */
+public enum RouteGroup {
+
+    /** Login and registration: CPU-bound BCrypt */
+    LOGIN,
+    /** Writes to users and admin operations, including bulk updates */
+    ADMIN_WRITE,
+    /** Reads such as {@code GET /api/users/{id}} */
+    READ;
+
+    /**
+     * @return the group, or {@code null} for requests outside the API (actuator, swagger)
+     */
+    public static RouteGroup classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!uri.startsWith("/api/")) {
+            return null;
+        }
+        if (uri.startsWith("/api/auth/")) {
+            return LOGIN;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return READ;
+        }
+        return ADMIN_WRITE;
+    }
+}
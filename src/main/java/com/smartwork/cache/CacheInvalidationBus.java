@@ -0,0 +1,168 @@
+package com.smartwork.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster-wide invalidation of node-local caches.
+ *
+ * <p>Changes are collected per (entity type, id), keeping the highest version, and sent as one
+ * message per batch interval. Sending is at-least-once: a message that fails to send is retried
+ * with the same sequence number until the transport accepts it. Receivers drop duplicates by
+ * (origin, sequence) and fall back to a full flush when a sequence gap shows messages were lost,
+ * when the transport reports a reconnect, or when a sender had to collapse an overflowing backlog.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements InvalidationTransport.Receiver {
+
+    private final InvalidationTransport transport;
+    private final List<InvalidationListener> listeners;
+    private final String nodeId;
+    private final int maxPending;
+    private final int maxEntriesPerMessage;
+
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+    private final Deque<InvalidationMessage> unsent = new ArrayDeque<>();
+    private final Map<String, Long> lastSequenceByOrigin = new ConcurrentHashMap<>();
+    /**
+     * Separate from the send lock: with the loopback transport, one bus's flush delivers into another bus
+     */
+    private final Object receiveLock = new Object();
+    private volatile boolean overflowed;
+    private long sequence;
+
+    public CacheInvalidationBus(
+            InvalidationTransport transport,
+            List<InvalidationListener> listeners,
+            @Value("${spring.application.name:smartwork}") String applicationName,
+            @Value("${cache.invalidation.max-pending:10000}") int maxPending,
+            @Value("${cache.invalidation.max-entries-per-message:200}") int maxEntriesPerMessage) {
+
+        this.transport = transport;
+        this.listeners = listeners;
+        this.nodeId = applicationName + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.maxPending = maxPending;
+        this.maxEntriesPerMessage = maxEntriesPerMessage;
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(this);
+        log.info("Cache invalidation bus started: node={}, transport={}", nodeId, transport.getClass().getSimpleName());
+    }
+
+    /**
+     * Queue an invalidation for the other nodes
+     */
+    public void invalidate(String entityType, long id, long version) {
+        if (pending.size() >= maxPending) {
+            overflowed = true;
+            return;
+        }
+        pending.merge(new Key(entityType, id), version, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.batch-interval-ms:100}")
+    public synchronized void flush() {
+        drainPending();
+        while (!unsent.isEmpty()) {
+            InvalidationMessage message = unsent.peekFirst();
+            try {
+                transport.send(message);
+                unsent.removeFirst();
+            } catch (Exception e) {
+                log.warn("Cache invalidation send failed, will retry: sequence={}, reason={}",
+                    message.sequence(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(InvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        synchronized (receiveLock) {
+            Long last = lastSequenceByOrigin.get(message.origin());
+            if (last != null && message.sequence() <= last) {
+                return;
+            }
+            lastSequenceByOrigin.put(message.origin(), message.sequence());
+
+            if (message.flushAll() || (last != null && message.sequence() > last + 1)) {
+                log.info("Full cache flush: origin={}, sequence={}, lastSeen={}", message.origin(), message.sequence(), last);
+                invalidateAll();
+                return;
+            }
+            for (InvalidationListener listener : listeners) {
+                try {
+                    listener.invalidate(message.entries());
+                } catch (RuntimeException e) {
+                    log.warn("Cache invalidation failed in {}: {}", listener.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onReconnect() {
+        log.info("Full cache flush after transport reconnect");
+        synchronized (receiveLock) {
+            invalidateAll();
+        }
+    }
+
+    private void invalidateAll() {
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Full cache flush failed in {}: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void drainPending() {
+        if (overflowed) {
+            overflowed = false;
+            pending.clear();
+            unsent.clear();
+            unsent.addLast(new InvalidationMessage(nodeId, ++sequence, true, List.of()));
+            return;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<InvalidationMessage.Entry> entries = new ArrayList<>(Math.min(pending.size(), maxEntriesPerMessage));
+        for (Key key : List.copyOf(pending.keySet())) {
+            Long version = pending.remove(key);
+            if (version == null) {
+                continue;
+            }
+            entries.add(new InvalidationMessage.Entry(key.entityType(), key.id(), version));
+            if (entries.size() == maxEntriesPerMessage) {
+                unsent.addLast(new InvalidationMessage(nodeId, ++sequence, false, List.copyOf(entries)));
+                entries.clear();
+            }
+        }
+        if (!entries.isEmpty()) {
+            unsent.addLast(new InvalidationMessage(nodeId, ++sequence, false, List.copyOf(entries)));
+        }
+    }
+
+    private record Key(String entityType, long id) {
+    }
+}
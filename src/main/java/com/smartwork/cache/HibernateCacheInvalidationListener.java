@@ -0,0 +1,41 @@
+package com.smartwork.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the Hibernate second-level and query caches in step with writes on other nodes.
+ *
+ * <p>User is not a cached entity; the only user-derived data in the second-level cache are query
+ * results (e.g. active members of a department). Those are only invalidated by the local
+ * update-timestamps region, which never sees remote writes, so any remote user change evicts the
+ * query cache.
+ */
+@Component
+public class HibernateCacheInvalidationListener implements InvalidationListener {
+
+    private final Cache cache;
+
+    public HibernateCacheInvalidationListener(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void invalidate(List<InvalidationMessage.Entry> entries) {
+        for (InvalidationMessage.Entry entry : entries) {
+            if (UserInvalidationPublisher.USER.equals(entry.entityType())) {
+                cache.evictQueryRegions();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.evictAllRegions();
+    }
+}
@@ -0,0 +1,19 @@
+package com.smartwork.cache;
+
+import java.util.List;
+
+/**
+ * A local cache that must follow changes made on other nodes.
+ */
+public interface InvalidationListener {
+
+    /**
+     * @param entries changes received from another node, already deduplicated
+     */
+    void invalidate(List<InvalidationMessage.Entry> entries);
+
+    /**
+     * Drop or rebuild everything; called after a partition or lost messages
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,20 @@
+package com.smartwork.cache;
+
+import java.util.List;
+
+/**
+ * One batch of invalidations from one node.
+ *
+ * @param origin   node that sent the message
+ * @param sequence per-origin sequence number, consecutive; receivers use it to drop duplicates
+ *                 and to detect lost messages
+ * @param flushAll the receiver must drop all cached state (sender overflowed or lost messages)
+ */
+public record InvalidationMessage(String origin, long sequence, boolean flushAll, List<Entry> entries) {
+
+    /**
+     * @param version entity version after the change; lets caches ignore invalidations they have already seen
+     */
+    public record Entry(String entityType, long id, long version) {
+    }
+}
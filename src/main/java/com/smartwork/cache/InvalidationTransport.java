@@ -0,0 +1,28 @@
+package com.smartwork.cache;
+
+/**
+ * Carries {@link InvalidationMessage}s between nodes. Implementations must deliver at least once;
+ * duplicates and ordering are handled by {@link CacheInvalidationBus}.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Start delivering messages (including this node's own) to the receiver
+     */
+    void start(Receiver receiver);
+
+    /**
+     * @throws Exception when the message could not be handed off; the bus retries it
+     */
+    void send(InvalidationMessage message) throws Exception;
+
+    interface Receiver {
+
+        void onMessage(InvalidationMessage message);
+
+        /**
+         * The transport recovered from a failure during which messages may have been missed
+         */
+        void onReconnect();
+    }
+}
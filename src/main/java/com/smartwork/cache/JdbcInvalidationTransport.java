@@ -0,0 +1,129 @@
+package com.smartwork.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Transport over the shared Oracle database ({@code cache_invalidation}, see db/oracle/05_cache_invalidation.sql).
+ *
+ * <p>Every node inserts its messages and polls for rows after the last one it has read.
+ * Sequence values are not assigned in commit order, so only rows older than a small visibility
+ * lag are read; a row that still commits later shows up as a per-origin sequence gap, which
+ * triggers a full flush in the bus. Both {@code created_at} and the lag cutoff come from the
+ * database clock (UTC), so node clock skew cannot hide or delay messages. A failed poll is reported as a reconnect once the database
+ * is reachable again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "jdbc")
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO cache_invalidation (message_id, origin, payload, created_at) " +
+        "VALUES (CACHE_INVALIDATION_SEQ.NEXTVAL, ?, ?, SYS_EXTRACT_UTC(SYSTIMESTAMP))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long visibilityLagMs;
+    private final int retentionMinutes;
+    private final int pollBatchSize;
+
+    private volatile Receiver receiver;
+    private long lastMessageId = -1;
+    private boolean failing;
+
+    public JdbcInvalidationTransport(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${cache.invalidation.jdbc.visibility-lag-ms:1000}") long visibilityLagMs,
+            @Value("${cache.invalidation.jdbc.retention-minutes:60}") int retentionMinutes,
+            @Value("${cache.invalidation.jdbc.poll-batch-size:500}") int pollBatchSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.visibilityLagMs = visibilityLagMs;
+        this.retentionMinutes = retentionMinutes;
+        this.pollBatchSize = pollBatchSize;
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void send(InvalidationMessage message) throws JsonProcessingException {
+        jdbcTemplate.update(INSERT_SQL, message.origin(), objectMapper.writeValueAsString(message));
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.jdbc.poll-interval-ms:500}")
+    public synchronized void poll() {
+        Receiver current = receiver;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (lastMessageId < 0) {
+                // Start from the newest message: a fresh node has nothing cached yet
+                Long max = jdbcTemplate.queryForObject("SELECT MAX(message_id) FROM cache_invalidation", Long.class);
+                lastMessageId = max != null ? max : 0;
+            }
+
+            List<Row> rows;
+            do {
+                rows = jdbcTemplate.query(
+                    "SELECT message_id, payload FROM cache_invalidation " +
+                    "WHERE message_id > ? " +
+                    "AND created_at < SYS_EXTRACT_UTC(SYSTIMESTAMP) - NUMTODSINTERVAL(?, 'SECOND') " +
+                    "ORDER BY message_id FETCH FIRST " + pollBatchSize + " ROWS ONLY",
+                    (rs, rowNum) -> new Row(rs.getLong("message_id"), rs.getString("payload")),
+                    lastMessageId, visibilityLagMs / 1000.0);
+                for (Row row : rows) {
+                    deliver(current, row);
+                    lastMessageId = row.messageId();
+                }
+            } while (rows.size() == pollBatchSize);
+
+            if (failing) {
+                failing = false;
+                log.info("Cache invalidation transport recovered");
+                current.onReconnect();
+            }
+        } catch (DataAccessException e) {
+            if (!failing) {
+                log.warn("Cache invalidation poll failed: {}", e.getMessage());
+            }
+            failing = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.jdbc.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        try {
+            jdbcTemplate.update("DELETE FROM cache_invalidation " +
+                "WHERE created_at < SYS_EXTRACT_UTC(SYSTIMESTAMP) - NUMTODSINTERVAL(?, 'MINUTE')", retentionMinutes);
+        } catch (DataAccessException e) {
+            log.debug("Cache invalidation cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(Receiver current, Row row) {
+        try {
+            current.onMessage(objectMapper.readValue(row.payload(), InvalidationMessage.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable cache invalidation message {}: {}", row.messageId(), e.getMessage());
+        }
+    }
+
+    private record Row(long messageId, String payload) {
+    }
+}
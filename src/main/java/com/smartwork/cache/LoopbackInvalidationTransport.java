@@ -0,0 +1,30 @@
+package com.smartwork.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process transport: delivers to every bus started in this JVM, including the sender.
+ * For single-instance deployments and for running several buses side by side on one machine.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private static final List<Receiver> RECEIVERS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void start(Receiver receiver) {
+        RECEIVERS.add(receiver);
+    }
+
+    @Override
+    public void send(InvalidationMessage message) {
+        for (Receiver receiver : RECEIVERS) {
+            receiver.onMessage(message);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.smartwork.cache;
+
+import com.smartwork.domain.User;
+import com.smartwork.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts committed user changes to the other nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserInvalidationPublisher {
+
+    public static final String USER = "User";
+
+    private final CacheInvalidationBus bus;
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        for (User user : event.users()) {
+            bus.invalidate(USER, user.getId(), user.getVersion() != null ? user.getVersion() : 0);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.smartwork.concurrency;
+
+import com.smartwork.bulkhead.BulkheadFilter;
+import com.smartwork.exception.BusinessException;
+import com.smartwork.exception.ErrorCode;
+import com.smartwork.exception.ErrorResponseWriter;
+import com.smartwork.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sheds load before requests reach the Tomcat worker → Hikari queue.
+ *
+ * <p>Admits a request while in-flight requests are below the adaptive {@link GradientLimit};
+ * otherwise answers 503 with {@code Retry-After} immediately. Requests carrying a validly signed
+ * bearer token may use the whole limit, anonymous ones only {@code anonymous-share} of it, so
+ * logged-in users keep working when anonymous traffic (login storms, scanners) saturates the server.
+ * The signature check is HMAC only; the user lookup is left to the JWT filter further down the chain.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final GradientLimit limit;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final JwtTokenProvider tokenProvider;
+    private final boolean enabled;
+    private final double anonymousShare;
+    private final String retryAfterSeconds;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejectedAuthenticated;
+    private final Counter rejectedAnonymous;
+
+    public AdaptiveConcurrencyLimitFilter(
+            ErrorResponseWriter errorResponseWriter,
+            JwtTokenProvider tokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:5}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.long-window:600}") int longWindow,
+            @Value("${concurrency-limit.anonymous-share:0.8}") double anonymousShare,
+            @Value("${concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+
+        this.errorResponseWriter = errorResponseWriter;
+        this.tokenProvider = tokenProvider;
+        this.enabled = enabled;
+        this.limit = new GradientLimit(initialLimit, minLimit, maxLimit, rttTolerance, smoothing, longWindow);
+        this.anonymousShare = anonymousShare;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+
+        Gauge.builder("http.concurrency.limit", limit, GradientLimit::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", inflight, AtomicInteger::get)
+            .description("Requests currently admitted")
+            .register(meterRegistry);
+        this.rejectedAuthenticated = Counter.builder("http.concurrency.rejected")
+            .tag("priority", "authenticated")
+            .register(meterRegistry);
+        this.rejectedAnonymous = Counter.builder("http.concurrency.rejected")
+            .tag("priority", "anonymous")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean authenticated = hasValidBearerToken(request);
+        int current = inflight.incrementAndGet();
+        int allowed = authenticated ? limit.getLimit() : Math.max(1, (int) (limit.getLimit() * anonymousShare));
+
+        if (current > allowed) {
+            inflight.decrementAndGet();
+            (authenticated ? rejectedAuthenticated : rejectedAnonymous).increment();
+            log.debug("Request rejected by concurrency limit: inflight={}, allowed={}", current, allowed);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            errorResponseWriter.write(response, ErrorCode.SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            inflight.decrementAndGet();
+            // A full bulkhead compartment is isolation working, not overload: keep it out of the gradient
+            if (request.getAttribute(BulkheadFilter.REJECTED_ATTRIBUTE) == null) {
+                limit.onSample(System.nanoTime() - start, current, dropped || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    /**
+     * Only a token with a valid signature earns the authenticated share; any client can send "Bearer x"
+     */
+    private boolean hasValidBearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        try {
+            return tokenProvider.validateToken(header.substring(BEARER_PREFIX.length()));
+        } catch (BusinessException | JwtException e) {
+            return false;
+        }
+    }
+}
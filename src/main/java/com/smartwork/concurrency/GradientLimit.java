@@ -0,0 +1,73 @@
+package com.smartwork.concurrency;
+
+/**
+ * Gradient-based concurrency limit (after Netflix concurrency-limits' Gradient2).
+ *
+ * <p>Compares the latest response time with a slow-moving long-term average. While latency stays
+ * near the average the limit grows by roughly {@code sqrt(limit)} per sample; when latency rises
+ * (e.g. Oracle slows and requests queue for connections) the gradient drops below 1 and the limit
+ * shrinks proportionally, so excess requests are rejected instead of queueing.
+ */
+public class GradientLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int longWindow;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private volatile int limit;
+
+    /**
+     * @param rttTolerance how much slower than the long-term average a sample may be before the limit shrinks
+     * @param smoothing    weight of each new estimate (0-1)
+     * @param longWindow   number of samples the long-term average spans
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @param rttNanos  response time of a finished request
+     * @param inflight  requests in flight when it started
+     * @param dropped   the request failed server-side (timeouts, pool exhaustion)
+     */
+    public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        double shortRtt = rttNanos;
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / longWindow;
+
+        // After a long slow period the average lags far behind; let it catch up
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Not using the available limit: latency says nothing about the limit
+        if (!dropped && inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * 0.9;
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        }
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
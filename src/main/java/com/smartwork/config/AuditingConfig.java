@@ -0,0 +1,12 @@
+package com.smartwork.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA auditing: auditor from the SecurityContext, timestamps from the per-transaction clock.
+ */
+@Configuration
+@EnableJpaAuditing(auditorAwareRef = "securityAuditorAware", dateTimeProviderRef = "transactionClock")
+public class AuditingConfig {
+}
@@ -0,0 +1,38 @@
+package com.smartwork.config;
+
+import com.smartwork.bulkhead.BulkheadProperties;
+import com.smartwork.bulkhead.ConnectionSliceDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pool with per route group connection slices when bulkheads are enabled.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionSlicePostProcessor(
+            ObjectProvider<BulkheadProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+
+        boolean enabled = environment.getProperty("bulkhead.enabled", Boolean.class, true);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ConnectionSliceDataSource) {
+                    return bean;
+                }
+                return new ConnectionSliceDataSource(dataSource, properties.getObject(), meterRegistry.getObject());
+            }
+        };
+    }
+}
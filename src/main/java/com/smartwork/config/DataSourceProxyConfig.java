@@ -0,0 +1,138 @@
+package com.smartwork.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.ChainListener;
+import net.ttddyy.dsproxy.listener.CompositeMethodListener;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the connection pool with datasource-proxy so every JDBC statement is visible to
+ * {@link QueryExecutionListener} beans (tracing, SQL statistics).
+ *
+ * <p>Listeners are resolved on first use, so they may depend on beans that need the DataSource.
+ * ResultSets are only proxied when {@code sql-stats.count-rows} is on, because every
+ * {@code next()} call then goes through the {@link MethodExecutionListener} beans.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(
+            ObjectProvider<QueryExecutionListener> queryListeners,
+            ObjectProvider<MethodExecutionListener> methodListeners,
+            Environment environment) {
+
+        boolean countRows = environment.getProperty("sql-stats.count-rows", Boolean.class, true);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new LazyChainListener(queryListeners));
+                if (countRows) {
+                    builder.proxyResultSet().methodListener(new LazyMethodListener(methodListeners));
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    /**
+     * Delegates to the query listener beans, looked up once when the first statement runs.
+     * Not a {@link ChainListener}: the builder would copy its (still empty) listener list and drop it.
+     */
+    private static final class LazyChainListener implements QueryExecutionListener {
+
+        private final ObjectProvider<QueryExecutionListener> provider;
+        private volatile List<QueryExecutionListener> listeners;
+
+        LazyChainListener(ObjectProvider<QueryExecutionListener> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryExecutionListener listener : listeners()) {
+                listener.beforeQuery(execInfo, queryInfoList);
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryExecutionListener listener : listeners()) {
+                listener.afterQuery(execInfo, queryInfoList);
+            }
+        }
+
+        private List<QueryExecutionListener> listeners() {
+            List<QueryExecutionListener> resolved = listeners;
+            if (resolved == null) {
+                synchronized (this) {
+                    if (listeners == null) {
+                        listeners = provider.orderedStream().toList();
+                    }
+                    resolved = listeners;
+                }
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Delegates to the method listener beans, looked up once when the first JDBC method runs.
+     * Not a {@link CompositeMethodListener}, for the same reason as {@link LazyChainListener}.
+     */
+    private static final class LazyMethodListener implements MethodExecutionListener {
+
+        private final ObjectProvider<MethodExecutionListener> provider;
+        private volatile List<MethodExecutionListener> listeners;
+
+        LazyMethodListener(ObjectProvider<MethodExecutionListener> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+            for (MethodExecutionListener listener : listeners()) {
+                listener.beforeMethod(executionContext);
+            }
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            for (MethodExecutionListener listener : listeners()) {
+                listener.afterMethod(executionContext);
+            }
+        }
+
+        private List<MethodExecutionListener> listeners() {
+            List<MethodExecutionListener> resolved = listeners;
+            if (resolved == null) {
+                synchronized (this) {
+                    if (listeners == null) {
+                        listeners = provider.orderedStream().toList();
+                    }
+                    resolved = listeners;
+                }
+            }
+            return resolved;
+        }
+    }
+}
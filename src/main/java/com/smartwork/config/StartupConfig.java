@@ -0,0 +1,39 @@
+package com.smartwork.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Startup tuning for the {@code fast-start} profile.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With lazy initialization, beans that only run scheduled jobs, react to events or
+     * register themselves on startup would never be created. Keep those eager.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasStartupOrBackgroundMethod(beanType);
+    }
+
+    private static boolean hasStartupOrBackgroundMethod(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType, ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, EventListener.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, PostConstruct.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,7 +2,13 @@ package com.smartwork.controller;
 
 import com.smartwork.domain.User;
 import com.smartwork.dto.ApiResponse;
+import com.smartwork.dto.PageResponse;
+import com.smartwork.dto.outbox.ChangeFeedResponse;
 import com.smartwork.dto.user.*;
+import com.smartwork.search.UserSearchService;
+import com.smartwork.search.UserSuggestService;
+import com.smartwork.service.DepartmentRosterService;
+import com.smartwork.service.OutboxService;
 import com.smartwork.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,9 +20,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 
 /**
  * REST Controller for user management operations.
@@ -29,6 +41,10 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final DepartmentRosterService departmentRosterService;
+    private final OutboxService outboxService;
+    private final UserSearchService userSearchService;
+    private final UserSuggestService userSuggestService;
 
     /**
      * Create a new user
@@ -38,7 +54,9 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserDto>> createUser(
         @Valid @RequestBody UserCreateRequest request
     ) {
-        log.info("REST request to create user: {}", request.getUsername());
+        if (log.isDebugEnabled()) {
+            log.debug("REST request to create user: {}", request.getUsername());
+        }
         UserDto userDto = userService.createUser(request);
         return ResponseEntity
             .status(HttpStatus.CREATED)
@@ -46,43 +64,120 @@ public class UserController {
     }
 
     /**
-     * Get user by ID
+     * Get user by ID.
+     * Supports If-None-Match / If-Modified-Since; a 304 is answered from a version lookup alone.
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Get user", description = "Get user by ID")
+    @Operation(summary = "Get user", description = "Get user by ID (conditional GET with ETag / Last-Modified)")
     public ResponseEntity<ApiResponse<UserDto>> getUserById(
-        @Parameter(description = "User ID") @PathVariable Long id
+        @Parameter(description = "User ID") @PathVariable Long id,
+        WebRequest webRequest
     ) {
-        log.info("REST request to get user: id={}", id);
+        log.debug("REST request to get user: id={}", id);
+        if (isNotModified(webRequest, userService.getUserVersion(id))) {
+            return null;
+        }
         UserDto userDto = userService.getUserById(id);
-        return ResponseEntity.ok(ApiResponse.success(userDto));
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(ApiResponse.success(userDto));
     }
 
     /**
-     * Get user by username
+     * Get user by username.
+     * Supports If-None-Match / If-Modified-Since; a 304 is answered from a version lookup alone.
      */
     @GetMapping("/username/{username}")
-    @Operation(summary = "Get user by username", description = "Get user by username")
+    @Operation(summary = "Get user by username", description = "Get user by username (conditional GET with ETag / Last-Modified)")
     public ResponseEntity<ApiResponse<UserDto>> getUserByUsername(
-        @Parameter(description = "Username") @PathVariable String username
+        @Parameter(description = "Username") @PathVariable String username,
+        WebRequest webRequest
     ) {
-        log.info("REST request to get user by username: {}", username);
+        log.debug("REST request to get user by username: {}", username);
+        if (isNotModified(webRequest, userService.getUserVersionByUsername(username))) {
+            return null;
+        }
         UserDto userDto = userService.getUserByUsername(username);
-        return ResponseEntity.ok(ApiResponse.success(userDto));
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(ApiResponse.success(userDto));
     }
 
     /**
      * Get all users with pagination
      */
     @GetMapping
-    @Operation(summary = "Get all users", description = "Get all users with pagination")
-    public ResponseEntity<ApiResponse<Page<UserDto>>> getAllUsers(
+    @Operation(summary = "Get all users",
+        description = "Get all users with pagination (JSON or CBOR via Accept: application/cbor)")
+    public ResponseEntity<ApiResponse<PageResponse<UserDto>>> getAllUsers(
         @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        log.info("REST request to get all users: page={}, size={}",
-            pageable.getPageNumber(), pageable.getPageSize());
+        if (log.isDebugEnabled()) {
+            log.debug("REST request to get all users: page={}, size={}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        }
         Page<UserDto> users = userService.getAllUsers(pageable);
-        return ResponseEntity.ok(ApiResponse.success(users));
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(users)));
+    }
+
+    /**
+     * Get user changes since a sequence number
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get user changes", description = "Incremental user change feed ordered by publish sequence number")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getUserChanges(
+        @Parameter(description = "Last sequence number already consumed") @RequestParam(defaultValue = "0") long since,
+        @Parameter(description = "Maximum number of events") @RequestParam(defaultValue = "100") int limit
+    ) {
+        log.debug("REST request to get user changes: since={}, limit={}", since, limit);
+        ChangeFeedResponse changes = outboxService.getUserChanges(since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+
+    /**
+     * Search active users by name, department or position
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search users",
+        description = "Ranked search over active users by partial name, department or position; " +
+            "accepts Hangul initial consonants (e.g. ㄱㄷ) and half-typed syllables")
+    public ResponseEntity<ApiResponse<List<UserSearchResultDto>>> searchUsers(
+        @Parameter(description = "Search text") @RequestParam String q,
+        @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit
+    ) {
+        if (log.isDebugEnabled()) {
+            log.debug("REST request to search users: q={}, limit={}", q, limit);
+        }
+        return ResponseEntity.ok(ApiResponse.success(userSearchService.search(q, limit)));
+    }
+
+    /**
+     * Typeahead suggestions for a username, name or employee ID prefix
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest users",
+        description = "Active users whose username, name or employee ID starts with the text, " +
+            "most recently logged-in first; names also match while the last syllable is being typed")
+    public ResponseEntity<ApiResponse<List<UserSearchResultDto>>> suggestUsers(
+        @Parameter(description = "Typed prefix") @RequestParam String q,
+        @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(userSuggestService.suggest(q, limit)));
+    }
+
+    /**
+     * Get active members of a department
+     */
+    @GetMapping("/departments/{department}/members")
+    @Operation(summary = "Get department members",
+        description = "Get active users in a department ordered by user ID (JSON or CBOR via Accept: application/cbor)")
+    public ResponseEntity<ApiResponse<PageResponse<DepartmentMemberDto>>> getDepartmentMembers(
+        @Parameter(description = "Department name") @PathVariable String department,
+        @PageableDefault(size = 20) Pageable pageable
+    ) {
+        log.debug("REST request to get department members: department={}", department);
+        Page<DepartmentMemberDto> members = departmentRosterService.getMembers(department, pageable);
+        return ResponseEntity.ok(ApiResponse.success(PageResponse.of(members)));
     }
 
     /**
@@ -94,7 +189,24 @@ public class UserController {
         @Parameter(description = "User ID") @PathVariable Long id,
         @Valid @RequestBody UserUpdateRequest request
     ) {
-        log.info("REST request to update user: id={}", id);
+        log.debug("REST request to update user: id={}", id);
+        UserDto userDto = userService.updateUser(id, request);
+        return ResponseEntity.ok(ApiResponse.success("User updated successfully", userDto));
+    }
+
+    /**
+     * Partially update user information
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "Patch user",
+        description = "Partially update user information; send the last read version to reject concurrent changes")
+    public ResponseEntity<ApiResponse<UserDto>> patchUser(
+        @Parameter(description = "User ID") @PathVariable Long id,
+        @Valid @RequestBody UserUpdateRequest request
+    ) {
+        if (log.isDebugEnabled()) {
+            log.debug("REST request to patch user: id={}, version={}", id, request.getVersion());
+        }
         UserDto userDto = userService.updateUser(id, request);
         return ResponseEntity.ok(ApiResponse.success("User updated successfully", userDto));
     }
@@ -108,7 +220,7 @@ public class UserController {
         @Parameter(description = "User ID") @PathVariable Long id,
         @Valid @RequestBody UserPasswordChangeRequest request
     ) {
-        log.info("REST request to change password: id={}", id);
+        log.debug("REST request to change password: id={}", id);
         userService.changePassword(id, request);
         return ResponseEntity.ok(ApiResponse.success("Password changed successfully"));
     }
@@ -122,11 +234,27 @@ public class UserController {
         @Parameter(description = "User ID") @PathVariable Long id,
         @Parameter(description = "User status") @RequestParam User.UserStatus status
     ) {
-        log.info("REST request to update user status: id={}, status={}", id, status);
+        log.debug("REST request to update user status: id={}, status={}", id, status);
         UserDto userDto = userService.updateUserStatus(id, status);
         return ResponseEntity.ok(ApiResponse.success("User status updated successfully", userDto));
     }
 
+    /**
+     * Update status of many users
+     */
+    @PutMapping("/bulk/status")
+    @Operation(summary = "Bulk update user status", description = "Update status of many users with a single statement")
+    public ResponseEntity<ApiResponse<Integer>> updateUserStatusBulk(
+        @Valid @RequestBody UserBulkStatusRequest request
+    ) {
+        if (log.isDebugEnabled()) {
+            log.debug("REST request to bulk update user status: count={}, status={}",
+                request.getUserIds().size(), request.getStatus());
+        }
+        int updated = userService.updateUserStatusBulk(request.getUserIds(), request.getStatus());
+        return ResponseEntity.ok(ApiResponse.success("User status updated successfully", updated));
+    }
+
     /**
      * Delete user (soft delete)
      */
@@ -135,7 +263,7 @@ public class UserController {
     public ResponseEntity<ApiResponse<Void>> deleteUser(
         @Parameter(description = "User ID") @PathVariable Long id
     ) {
-        log.info("REST request to delete user: id={}", id);
+        log.debug("REST request to delete user: id={}", id);
         userService.deleteUser(id);
         return ResponseEntity.ok(ApiResponse.success("User deleted successfully"));
     }
@@ -178,4 +306,17 @@ public class UserController {
         boolean exists = userService.existsByEmployeeId(employeeId);
         return ResponseEntity.ok(ApiResponse.success(!exists));
     }
+
+    /**
+     * Evaluate conditional request headers against a weak ETag built from ID and version.
+     * Sets ETag / Last-Modified on the response and returns true when a 304 was sent.
+     */
+    private boolean isNotModified(WebRequest webRequest, UserVersionView version) {
+        String etag = "W/\"" + version.getId() + "-" + version.getVersion() + "\"";
+        LocalDateTime lastModifiedAt = version.getLastModifiedAt();
+        long lastModified = lastModifiedAt != null
+            ? lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1;
+        return webRequest.checkNotModified(etag, lastModified);
+    }
 }
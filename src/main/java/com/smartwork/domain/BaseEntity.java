@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 /**
  * Base entity with audit fields for all domain entities.
  * Provides automatic tracking of creation and modification metadata.
+ *
+ * <p>Concrete entities declare {@code @SQLRestriction(BaseEntity.NOT_DELETED)} so that
+ * every Hibernate load, query and collection fetch skips soft-deleted rows.
  */
 @Getter
 @Setter
@@ -21,6 +24,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    /**
+     * SQL restriction shared by all entities to hide soft-deleted rows
+     */
+    public static final String NOT_DELETED = "is_deleted = 0";
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -40,27 +48,22 @@ public abstract class BaseEntity {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
 
+    /**
+     * Timestamps and auditors are populated by {@link AuditingEntityListener}
+     * (see {@code AuditingConfig}); this hook only fills non-audit defaults.
+     */
     @PrePersist
     protected void onCreate() {
-        if (createdAt == null) {
-            createdAt = LocalDateTime.now();
-        }
         if (isDeleted == null) {
             isDeleted = false;
         }
     }
 
-    @PreUpdate
-    protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
-    }
-
     /**
      * Soft delete the entity
      */
     public void softDelete() {
         this.isDeleted = true;
-        this.updatedAt = LocalDateTime.now();
     }
 
     /**
@@ -68,6 +71,5 @@ public abstract class BaseEntity {
      */
     public void restore() {
         this.isDeleted = false;
-        this.updatedAt = LocalDateTime.now();
     }
 }
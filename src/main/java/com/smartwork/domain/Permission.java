@@ -2,6 +2,9 @@ package com.smartwork.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Permission entity for fine-grained access control.
@@ -15,6 +18,9 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLRestriction(BaseEntity.NOT_DELETED)
 public class Permission extends BaseEntity {
 
     @Id
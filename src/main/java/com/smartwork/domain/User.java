@@ -2,6 +2,8 @@ package com.smartwork.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -9,18 +11,23 @@ import java.util.Set;
 
 /**
  * User entity for authentication and authorization.
+ * Username, email and employee ID are unique among live rows only, enforced by the
+ * function-based indexes in db/oracle/02_soft_delete_indexes.sql.
  */
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_user_username", columnList = "username"),
-    @Index(name = "idx_user_email", columnList = "email"),
-    @Index(name = "idx_user_employee_id", columnList = "employee_id")
+    @Index(name = "idx_user_username", columnList = "username, is_deleted"),
+    @Index(name = "idx_user_email", columnList = "email, is_deleted"),
+    @Index(name = "idx_user_employee_id", columnList = "employee_id, is_deleted"),
+    @Index(name = "idx_user_department_status", columnList = "department, status, is_deleted")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
+@SQLRestriction(BaseEntity.NOT_DELETED)
 public class User extends BaseEntity {
 
     @Id
@@ -29,16 +36,16 @@ public class User extends BaseEntity {
     @Column(name = "user_id")
     private Long id;
 
-    @Column(name = "username", nullable = false, unique = true, length = 50)
+    @Column(name = "username", nullable = false, length = 50)
     private String username;
 
     @Column(name = "password", nullable = false, length = 255)
     private String password;
 
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
-    @Column(name = "employee_id", unique = true, length = 20)
+    @Column(name = "employee_id", length = 20)
     private String employeeId;
 
     @Column(name = "name", nullable = false, length = 50)
@@ -68,6 +75,10 @@ public class User extends BaseEntity {
     @Column(name = "locked_until")
     private LocalDateTime lockedUntil;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "user_roles",
@@ -91,37 +102,33 @@ public class User extends BaseEntity {
         role.getUsers().remove(this);
     }
 
-    public void updateLastLogin() {
-        this.lastLoginAt = LocalDateTime.now();
+    public void updateLastLogin(LocalDateTime loginAt) {
+        this.lastLoginAt = loginAt;
         this.failedLoginAttempts = 0;
     }
 
-    public void incrementFailedAttempts() {
-        this.failedLoginAttempts++;
-        if (this.failedLoginAttempts >= 5) {
-            this.status = UserStatus.LOCKED;
-            this.lockedUntil = LocalDateTime.now().plusHours(1);
-        }
-    }
-
     public void unlock() {
         this.status = UserStatus.ACTIVE;
         this.failedLoginAttempts = 0;
         this.lockedUntil = null;
     }
 
+    /**
+     * Pure time check; expired locks are cleared by {@code AccountUnlockService} or on the next login
+     */
     public boolean isLocked() {
-        if (status == UserStatus.LOCKED && lockedUntil != null) {
-            if (LocalDateTime.now().isAfter(lockedUntil)) {
-                unlock();
-                return false;
-            }
-            return true;
-        }
-        return status == UserStatus.LOCKED;
+        return status == UserStatus.LOCKED
+            && (lockedUntil == null || LocalDateTime.now().isBefore(lockedUntil));
+    }
+
+    /**
+     * Locked with an expiry that has passed, but not yet unlocked in the database
+     */
+    public boolean isLockExpired() {
+        return status == UserStatus.LOCKED && lockedUntil != null && !isLocked();
     }
 
     public boolean isActive() {
-        return status == UserStatus.ACTIVE && !isLocked();
+        return status == UserStatus.ACTIVE || isLockExpired();
     }
 }
@@ -0,0 +1,82 @@
+package com.smartwork.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Read-only view of the {@code users} table for list pages and index rebuilds.
+ *
+ * <p>{@code @Immutable}, so Hibernate keeps no loaded-state snapshot and never dirty-checks
+ * or flushes it. Leaves out the password and lock bookkeeping; all writes go through {@link User}.
+ */
+@Entity
+@Immutable
+@Table(name = "users")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SQLRestriction(BaseEntity.NOT_DELETED)
+public class UserSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long id;
+
+    @Column(name = "username")
+    private String username;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "employee_id")
+    private String employeeId;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "department")
+    private String department;
+
+    @Column(name = "position")
+    private String position;
+
+    @Column(name = "phone")
+    private String phone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private User.UserStatus status;
+
+    @Column(name = "last_login_at")
+    private LocalDateTime lastLoginAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "version")
+    private Long version;
+
+    /**
+     * Loaded for a whole page at once instead of one query per user
+     */
+    @Immutable
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @JoinTable(
+        name = "user_roles",
+        joinColumns = @JoinColumn(name = "user_id"),
+        inverseJoinColumns = @JoinColumn(name = "role_id")
+    )
+    private Set<Role> roles = new HashSet<>();
+}
@@ -6,15 +6,23 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.BindingResult;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ErrorResponse {
 
+    /**
+     * Immutable responses without field errors, reused per error code for up to one second
+     */
+    private static final AtomicReferenceArray<CachedResponse> CACHE =
+            new AtomicReferenceArray<>(ErrorCode.values().length);
+
     private String code;
     private String message;
     private int status;
@@ -29,20 +37,35 @@ public class ErrorResponse {
         this.errors = errors;
     }
 
-    private ErrorResponse(final ErrorCode code) {
+    private ErrorResponse(final ErrorCode code, final LocalDateTime timestamp) {
         this.code = code.getCode();
         this.message = code.getMessage();
         this.status = code.getStatus().value();
-        this.timestamp = LocalDateTime.now();
-        this.errors = new ArrayList<>();
+        this.timestamp = timestamp;
+        this.errors = List.of();
     }
 
     public static ErrorResponse of(final ErrorCode code, final BindingResult bindingResult) {
         return new ErrorResponse(code, FieldError.of(bindingResult));
     }
 
+    /**
+     * Response without field errors; reuses a preallocated instance with second-precision timestamp
+     */
     public static ErrorResponse of(final ErrorCode code) {
-        return new ErrorResponse(code);
+        final long epochSecond = System.currentTimeMillis() / 1000;
+        final CachedResponse cached = CACHE.get(code.ordinal());
+        if (cached != null && cached.epochSecond() == epochSecond) {
+            return cached.response();
+        }
+
+        final LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+        final ErrorResponse response = new ErrorResponse(code, timestamp);
+        CACHE.set(code.ordinal(), new CachedResponse(epochSecond, response));
+        return response;
+    }
+
+    private record CachedResponse(long epochSecond, ErrorResponse response) {
     }
 
     @Getter
@@ -0,0 +1,37 @@
+package com.smartwork.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Slim page envelope for list endpoints.
+ * Replaces the serialized Spring {@code Page} (pageable, sort, first/last/empty, ...) with the fields clients use.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PageResponse<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean hasNext;
+
+    private PageResponse(final Page<T> page) {
+        this.content = page.getContent();
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+        this.hasNext = page.hasNext();
+    }
+
+    public static <T> PageResponse<T> of(final Page<T> page) {
+        return new PageResponse<>(page);
+    }
+}
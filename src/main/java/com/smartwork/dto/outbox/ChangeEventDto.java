@@ -0,0 +1,51 @@
+package com.smartwork.dto.outbox;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.smartwork.domain.OutboxEvent;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change event as delivered to sinks and the change feed.
+ * {@code sequence} is the commit-ordered feed position, {@code eventId} identifies the event for de-duplication.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventDto {
+
+    private Long sequence;
+    private Long eventId;
+    private String aggregateType;
+    private Long aggregateId;
+    private String eventType;
+
+    @JsonRawValue
+    private String payload;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime occurredAt;
+
+    /**
+     * Convert OutboxEvent entity to ChangeEventDto
+     */
+    public static ChangeEventDto fromEntity(OutboxEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return ChangeEventDto.builder()
+            .sequence(event.getFeedSequence())
+            .eventId(event.getId())
+            .aggregateType(event.getAggregateType())
+            .aggregateId(event.getAggregateId())
+            .eventType(event.getEventType())
+            .payload(event.getPayload())
+            .occurredAt(event.getCreatedAt())
+            .build();
+    }
+}
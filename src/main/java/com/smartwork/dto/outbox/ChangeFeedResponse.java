@@ -0,0 +1,20 @@
+package com.smartwork.dto.outbox;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Incremental change feed page; pass {@code nextSince} as {@code since} to continue
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeFeedResponse {
+
+    private List<ChangeEventDto> events;
+    private Long nextSince;
+    private boolean hasMore;
+}
@@ -0,0 +1,48 @@
+package com.smartwork.dto.outbox;
+
+import com.smartwork.domain.User;
+import lombok.*;
+
+/**
+ * User state carried in outbox events (never includes credentials)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserChangePayload {
+
+    private Long id;
+    private String username;
+    private String email;
+    private String employeeId;
+    private String name;
+    private String department;
+    private String position;
+    private User.UserStatus status;
+    private boolean deleted;
+    private Long version;
+
+    /**
+     * Convert User entity to UserChangePayload
+     */
+    public static UserChangePayload fromEntity(User user) {
+        if (user == null) {
+            return null;
+        }
+
+        return UserChangePayload.builder()
+            .id(user.getId())
+            .username(user.getUsername())
+            .email(user.getEmail())
+            .employeeId(user.getEmployeeId())
+            .name(user.getName())
+            .department(user.getDepartment())
+            .position(user.getPosition())
+            .status(user.getStatus())
+            .deleted(Boolean.TRUE.equals(user.getIsDeleted()))
+            .version(user.getVersion())
+            .build();
+    }
+}
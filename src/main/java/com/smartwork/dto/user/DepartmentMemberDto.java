@@ -0,0 +1,22 @@
+package com.smartwork.dto.user;
+
+import lombok.*;
+
+/**
+ * Lightweight department roster entry
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DepartmentMemberDto {
+
+    private Long id;
+    private String username;
+    private String name;
+    private String employeeId;
+    private String department;
+    private String position;
+    private String email;
+}
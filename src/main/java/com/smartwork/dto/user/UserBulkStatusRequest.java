@@ -0,0 +1,27 @@
+package com.smartwork.dto.user;
+
+import com.smartwork.domain.User;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request DTO for changing the status of many users at once
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBulkStatusRequest {
+
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000명까지 변경할 수 있습니다")
+    private List<Long> userIds;
+
+    @NotNull(message = "상태는 필수입니다")
+    private User.UserStatus status;
+}
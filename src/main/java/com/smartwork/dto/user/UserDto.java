@@ -6,7 +6,6 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * User response DTO
@@ -39,32 +38,5 @@ public class UserDto {
 
     private Set<String> roleNames;
 
-    /**
-     * Convert User entity to UserDto
-     */
-    public static UserDto fromEntity(User user) {
-        if (user == null) {
-            return null;
-        }
-
-        return UserDto.builder()
-            .id(user.getId())
-            .username(user.getUsername())
-            .email(user.getEmail())
-            .employeeId(user.getEmployeeId())
-            .name(user.getName())
-            .department(user.getDepartment())
-            .position(user.getPosition())
-            .phone(user.getPhone())
-            .status(user.getStatus())
-            .lastLoginAt(user.getLastLoginAt())
-            .createdAt(user.getCreatedAt())
-            .updatedAt(user.getUpdatedAt())
-            .roleNames(user.getRoles() != null
-                ? user.getRoles().stream()
-                    .map(role -> role.getRoleName())
-                    .collect(Collectors.toSet())
-                : null)
-            .build();
-    }
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.smartwork.dto.user;
+
+import lombok.*;
+
+/**
+ * Directory search result, best match first
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSearchResultDto {
+
+    private Long id;
+    private String username;
+    private String name;
+    private String employeeId;
+    private String department;
+    private String position;
+}
@@ -34,4 +34,9 @@ public class UserUpdateRequest {
         message = "전화번호 형식이 올바르지 않습니다 (예: 010-1234-5678)"
     )
     private String phone;
+
+    /**
+     * Version the client last read; when present the update is rejected if the user changed since
+     */
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.smartwork.dto.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the fields needed to answer conditional requests without loading the user
+ */
+public interface UserVersionView {
+
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    default LocalDateTime getLastModifiedAt() {
+        return getUpdatedAt() != null ? getUpdatedAt() : getCreatedAt();
+    }
+}
@@ -0,0 +1,21 @@
+package com.smartwork.event;
+
+import com.smartwork.domain.User;
+
+import java.util.List;
+
+/**
+ * Application event published by {@code UserService} for every user mutation.
+ * Listeners that maintain derived in-memory state should react after commit
+ * ({@code @TransactionalEventListener}) so rolled-back changes are never applied.
+ */
+public record UserChangedEvent(ChangeType type, List<User> users) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, PASSWORD_CHANGED, STATUS_CHANGED, DELETED
+    }
+
+    public static UserChangedEvent of(ChangeType type, User user) {
+        return new UserChangedEvent(type, List.of(user));
+    }
+}
@@ -0,0 +1,11 @@
+package com.smartwork.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application event published by {@code LoginAttemptService} after a successful login is recorded.
+ * Logins are not user mutations in the sense of {@link UserChangedEvent}: they only move
+ * {@code lastLoginAt}, which in-memory rankings of recent activity follow.
+ */
+public record UserLoggedInEvent(Long userId, LocalDateTime loginAt) {
+}
@@ -4,6 +4,8 @@ import lombok.Getter;
 
 /**
  * Base exception for business logic errors.
+ * Exceptions for expected error codes ({@link ErrorCode#isExpected()}) skip stack trace capture,
+ * which dominates the cost of throwing on hot paths such as login and token validation.
  */
 @Getter
 public class BusinessException extends RuntimeException {
@@ -12,25 +14,25 @@ public class BusinessException extends RuntimeException {
     private final Object[] args;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, !errorCode.isExpected());
         this.errorCode = errorCode;
         this.args = null;
     }
 
     public BusinessException(ErrorCode errorCode, Object... args) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, !errorCode.isExpected());
         this.errorCode = errorCode;
         this.args = args;
     }
 
     public BusinessException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
+        super(errorCode.getMessage(), cause, false, !errorCode.isExpected());
         this.errorCode = errorCode;
         this.args = null;
     }
 
     public BusinessException(ErrorCode errorCode, Throwable cause, Object... args) {
-        super(errorCode.getMessage(), cause);
+        super(errorCode.getMessage(), cause, false, !errorCode.isExpected());
         this.errorCode = errorCode;
         this.args = args;
     }
@@ -19,6 +19,8 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C005", "Method not allowed"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "Access denied"),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C007", "Access is denied"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C008", "Server is busy, please retry"),
+    SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "C009", "Search index is not ready, please retry"),
 
     // Authentication & Authorization (2xxx)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "Authentication required"),
@@ -38,6 +40,7 @@ public enum ErrorCode {
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "U006", "Invalid password format"),
     PASSWORD_MISMATCH(HttpStatus.BAD_REQUEST, "U007", "Password confirmation mismatch"),
     CURRENT_PASSWORD_INCORRECT(HttpStatus.BAD_REQUEST, "U008", "Current password is incorrect"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "U009", "User was modified by another request"),
 
     // Board Management (4xxx)
     BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "B001", "Board not found"),
@@ -66,4 +69,12 @@ public enum ErrorCode {
     private final HttpStatus status;
     private final String code;
     private final String message;
+
+    /**
+     * Client-side outcomes (4xx) are routine, e.g. not found or bad credentials;
+     * they are raised without stack traces and logged at reduced, rate-limited levels.
+     */
+    public boolean isExpected() {
+        return status.is4xxClientError();
+    }
 }
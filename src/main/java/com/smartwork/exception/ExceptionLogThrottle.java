@@ -0,0 +1,46 @@
+package com.smartwork.exception;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-{@link ErrorCode} log rate limiter.
+ *
+ * <p>Allows one log line per error code per window and counts the occurrences it suppresses,
+ * so a burst of identical failures (e.g. bots hitting login) produces one line per window
+ * with a repeat count instead of one line per request. Only used for expected (4xx) codes;
+ * server failures are always logged.
+ */
+public class ExceptionLogThrottle {
+
+    /**
+     * Returned by {@link #tryAcquire(ErrorCode)} when the occurrence should not be logged
+     */
+    public static final long SUPPRESSED = -1;
+
+    private final long windowMillis;
+    private final AtomicLongArray windowStarts;
+    private final AtomicLongArray suppressedCounts;
+
+    public ExceptionLogThrottle(long windowMillis) {
+        int size = ErrorCode.values().length;
+        this.windowMillis = windowMillis;
+        this.windowStarts = new AtomicLongArray(size);
+        this.suppressedCounts = new AtomicLongArray(size);
+    }
+
+    /**
+     * @return the number of occurrences suppressed since the last logged one,
+     *         or {@link #SUPPRESSED} if this occurrence should not be logged
+     */
+    public long tryAcquire(ErrorCode errorCode) {
+        int index = errorCode.ordinal();
+        long now = System.currentTimeMillis();
+        long windowStart = windowStarts.get(index);
+
+        if (now - windowStart >= windowMillis && windowStarts.compareAndSet(index, windowStart, now)) {
+            return suppressedCounts.getAndSet(index, 0);
+        }
+        suppressedCounts.incrementAndGet(index);
+        return SUPPRESSED;
+    }
+}
@@ -4,6 +4,7 @@ import com.smartwork.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.BindException;
@@ -16,10 +17,21 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ExceptionLogThrottle logThrottle = new ExceptionLogThrottle(60_000);
+
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
-        log.error("BusinessException: {}", e.getMessage(), e);
         final ErrorCode errorCode = e.getErrorCode();
+        if (!errorCode.isExpected()) {
+            // Server failures are never throttled
+            log.error("BusinessException: {}", e.getMessage(), e);
+        } else {
+            final long suppressed = logThrottle.tryAcquire(errorCode);
+            if (suppressed != ExceptionLogThrottle.SUPPRESSED) {
+                log.warn("BusinessException: {} {} (repeated {} times in last window)",
+                    errorCode.getCode(), e.getMessage(), suppressed);
+            }
+        }
         final ErrorResponse response = ErrorResponse.of(errorCode);
         return new ResponseEntity<>(response, errorCode.getStatus());
     }
@@ -45,6 +57,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.METHOD_NOT_ALLOWED);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        log.warn("ObjectOptimisticLockingFailureException: {}", e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION);
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     protected ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException e) {
         log.error("AuthenticationException: {}", e.getMessage());
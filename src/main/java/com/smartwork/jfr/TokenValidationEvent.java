@@ -0,0 +1,19 @@
+package com.smartwork.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.smartwork.TokenValidation")
+@Label("JWT Validation")
+@Description("Signature check and claims parsing of an access token")
+@Category({"SmartWork", "Security"})
+@StackTrace(false)
+public class TokenValidationEvent extends Event {
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,28 @@
+package com.smartwork.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.smartwork.Transaction")
+@Label("Transaction")
+@Description("A @Transactional method, from entry to commit or rollback")
+@Category({"SmartWork", "Persistence"})
+@StackTrace(false)
+public class TransactionEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Read Only")
+    public boolean readOnly;
+
+    @Label("Propagation")
+    public String propagation;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,24 @@
+package com.smartwork.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.smartwork.UserDetailsLookup")
+@Label("User Details Lookup")
+@Description("Loading a user and its authorities for an authenticated request")
+@Category({"SmartWork", "Security"})
+@StackTrace(false)
+public class UserDetailsLookupEvent extends Event {
+
+    // No username: recordings are downloadable from /actuator/flightrecorder
+
+    @Label("Authorities")
+    public int authorities;
+
+    @Label("Outcome")
+    public String outcome;
+}
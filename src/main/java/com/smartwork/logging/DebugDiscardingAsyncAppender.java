@@ -0,0 +1,20 @@
+package com.smartwork.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Async appender that only sheds DEBUG/TRACE events under pressure.
+ *
+ * <p>Logback's {@link AsyncAppender} drops TRACE, DEBUG <em>and INFO</em> once the queue's free
+ * capacity falls below the discarding threshold. INFO carries our audit-style messages
+ * (logins, user mutations), so it is kept; only diagnostic levels are dropped.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,64 @@
+package com.smartwork.mapper;
+
+import com.smartwork.domain.Role;
+import com.smartwork.domain.User;
+import com.smartwork.domain.UserSummary;
+import com.smartwork.dto.user.DepartmentMemberDto;
+import com.smartwork.dto.user.UserDto;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generated User → DTO mappers.
+ *
+ * <p>Builders are disabled so the generated code calls setters on a single target instance
+ * instead of allocating a Lombok builder per row.
+ */
+@Mapper(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    builder = @Builder(disableBuilder = true),
+    unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface UserMapper {
+
+    /**
+     * Shared instance for users without roles
+     */
+    Set<String> NO_ROLES = Set.of();
+
+    @Mapping(target = "roleNames", source = "roles")
+    UserDto toDto(User user);
+
+    List<UserDto> toDtos(List<User> users);
+
+    @Mapping(target = "roleNames", source = "roles")
+    UserDto toDto(UserSummary user);
+
+    List<UserDto> summariesToDtos(List<UserSummary> users);
+
+    DepartmentMemberDto toDepartmentMember(User user);
+
+    /**
+     * Role names in a set pre-sized to the number of roles
+     */
+    default Set<String> toRoleNames(Set<Role> roles) {
+        if (roles == null) {
+            return null;
+        }
+        if (roles.isEmpty()) {
+            return NO_ROLES;
+        }
+        Set<String> roleNames = HashSet.newHashSet(roles.size());
+        for (Role role : roles) {
+            roleNames.add(role.getRoleName());
+        }
+        return roleNames;
+    }
+}
@@ -0,0 +1,155 @@
+package com.smartwork.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * On-demand JDK Flight Recorder recordings (admin only, like every actuator endpoint except health).
+ *
+ * <ul>
+ *   <li>{@code POST /actuator/flightrecorder} {"durationSeconds":120, "settings":"profile"} - start</li>
+ *   <li>{@code GET /actuator/flightrecorder} - status</li>
+ *   <li>{@code DELETE /actuator/flightrecorder} - stop and dump to disk</li>
+ *   <li>{@code GET /actuator/flightrecorder/{file}} - download the dumped {@code .jfr}</li>
+ * </ul>
+ *
+ * <p>One recording at a time, bounded in duration and size; only the latest dump is kept.
+ * The custom {@code com.smartwork.*} events (see the {@code jfr} package) are enabled by default
+ * in both settings.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecorderEndpoint(
+            @Value("${jfr.directory:${java.io.tmpdir}/smartwork-jfr}") String directory,
+            @Value("${jfr.max-duration-seconds:600}") long maxDurationSeconds,
+            @Value("${jfr.max-size-mb:100}") long maxSizeMb) {
+
+        this.directory = Path.of(directory);
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? RecordingState.CLOSED.name() : recording.getState().name());
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("sizeBytes", recording.getSize());
+        }
+        status.put("lastDump", lastDump == null ? null : lastDump.getFileName().toString());
+        return status;
+    }
+
+    /**
+     * @param durationSeconds capped at {@code jfr.max-duration-seconds}; the recording stops by itself
+     * @param settings        {@code default} (low overhead) or {@code profile} (more detail)
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Long durationSeconds, @Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        closeRecording();
+
+        Duration duration = durationSeconds == null
+            ? maxDuration
+            : Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()));
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration(settings != null ? settings : "default"));
+            newRecording.setName("smartwork-on-demand");
+            newRecording.setToDisk(true);
+            newRecording.setMaxSize(maxSizeBytes);
+            newRecording.setDuration(duration);
+            newRecording.start();
+            recording = newRecording;
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+        log.info("Flight recording started: duration={}, settings={}", duration, settings);
+        return status();
+    }
+
+    /**
+     * Stop the recording and dump it for download
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            return status();
+        }
+        try {
+            Files.createDirectories(directory);
+            Path dump = directory.resolve("smartwork-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.dump(dump);
+            deleteLastDump();
+            lastDump = dump;
+            log.info("Flight recording dumped: {}", dump);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closeRecording();
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector String file) {
+        if (lastDump == null || !lastDump.getFileName().toString().equals(file)) {
+            return null;
+        }
+        return new FileSystemResource(lastDump);
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() throws IOException {
+        if (lastDump != null) {
+            Files.deleteIfExists(lastDump);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.smartwork.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heap / native memory report ({@code GET /actuator/memory}).
+ *
+ * <p>Reports heap and non-heap pools, direct/mapped buffers, thread count, process RSS (Linux)
+ * and, when the JVM runs with {@code -XX:NativeMemoryTracking=summary}, the NMT summary.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "memory")
+public class MemoryReportEndpoint {
+
+    private static final long MB = 1024 * 1024;
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rssMb", readRssMb());
+        report.put("heap", usage(memory.getHeapMemoryUsage()));
+        report.put("nonHeap", usage(memory.getNonHeapMemoryUsage()));
+
+        Map<String, Object> pools = new LinkedHashMap<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pools.put(pool.getName(), usage(pool.getUsage()));
+        }
+        report.put("pools", pools);
+
+        Map<String, Object> buffers = new LinkedHashMap<>();
+        for (BufferPoolMXBean buffer : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            buffers.put(buffer.getName(), Map.of(
+                "count", buffer.getCount(),
+                "usedMb", buffer.getMemoryUsed() / MB,
+                "capacityMb", buffer.getTotalCapacity() / MB));
+        }
+        report.put("buffers", buffers);
+        report.put("threads", ManagementFactory.getThreadMXBean().getThreadCount());
+        report.put("nativeMemoryTracking", readNativeMemorySummary());
+        return report;
+    }
+
+    private static Map<String, Long> usage(MemoryUsage usage) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("usedMb", usage.getUsed() / MB);
+        values.put("committedMb", usage.getCommitted() / MB);
+        values.put("maxMb", usage.getMax() < 0 ? -1 : usage.getMax() / MB);
+        return values;
+    }
+
+    private static Long readRssMb() {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(status);
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    long kb = Long.parseLong(line.replaceAll("\\D", ""));
+                    return kb / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Could not read process RSS: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static String readNativeMemorySummary() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Object result = server.invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "vmNativeMemory",
+                new Object[]{new String[]{"summary", "scale=MB"}},
+                new String[]{String[].class.getName()});
+            return String.valueOf(result);
+        } catch (Exception e) {
+            return "unavailable: " + e.getMessage();
+        }
+    }
+}
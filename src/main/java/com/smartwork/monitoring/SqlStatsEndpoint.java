@@ -0,0 +1,39 @@
+package com.smartwork.monitoring;
+
+import com.smartwork.sql.SqlStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top-N SQL statements by fingerprint ({@code GET /actuator/sqlstats?limit=20&orderBy=totalTime}).
+ * {@code DELETE /actuator/sqlstats} resets the counters, e.g. before a tuning run.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatistics sqlStatistics;
+
+    /**
+     * @param orderBy totalTime (default), count, maxTime or rows
+     */
+    @ReadOperation
+    public List<Map<String, Object>> top(@Nullable Integer limit, @Nullable String orderBy) {
+        return sqlStatistics.top(limit != null ? limit : DEFAULT_LIMIT, orderBy);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+}
@@ -0,0 +1,40 @@
+package com.smartwork.monitoring;
+
+import com.smartwork.tracing.TraceBuffer;
+import com.smartwork.tracing.TraceRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Recently kept request traces ({@code GET /actuator/traces}, {@code GET /actuator/traces/{traceId}}).
+ */
+@Component
+@Endpoint(id = "traces")
+@RequiredArgsConstructor
+public class TraceEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final TraceBuffer traceBuffer;
+
+    /**
+     * Most recent traces first, optionally only those slower than {@code minDurationMs}
+     */
+    @ReadOperation
+    public List<TraceRecord> traces(@Nullable Integer limit, @Nullable Long minDurationMs) {
+        return traceBuffer.recent(
+            limit != null ? limit : DEFAULT_LIMIT,
+            minDurationMs != null ? minDurationMs : 0);
+    }
+
+    @ReadOperation
+    public TraceRecord trace(@Selector String traceId) {
+        return traceBuffer.find(traceId);
+    }
+}
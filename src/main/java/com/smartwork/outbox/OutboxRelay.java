@@ -0,0 +1,126 @@
+package com.smartwork.outbox;
+
+import com.smartwork.domain.OutboxEvent;
+import com.smartwork.dto.outbox.ChangeEventDto;
+import com.smartwork.repository.OutboxEventRepository;
+import com.smartwork.scheduling.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Publishes unpublished outbox events to the configured {@link OutboxSink} in batches.
+ *
+ * <p>Publishing assigns each event its feed sequence. Only committed events can be read here and
+ * one relay commits batch after batch, so feed sequences become visible in increasing order and a
+ * change feed cursor never skips an event that commits late.
+ *
+ * <p>Only the node holding the {@value #LEASE_NAME} lease relays; it renews the lease before every
+ * batch and stops once it is lost. A batch also locks its rows, so a node that took over the lease
+ * during a slow batch waits for that batch to commit instead of publishing the same events again.
+ * With {@code outbox.require-durable-sink} (prod) startup fails unless the sink is durable.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    static final String LEASE_NAME = "outbox-relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final SchedulerLease schedulerLease;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int retentionDays;
+    private final Duration leaseTtl;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink sink,
+            SchedulerLease schedulerLease,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${outbox.relay.lease-ttl-seconds:30}") long leaseTtlSeconds,
+            @Value("${outbox.retention-days:7}") int retentionDays,
+            @Value("${outbox.require-durable-sink:false}") boolean requireDurableSink) {
+
+        if (requireDurableSink && !sink.isDurable()) {
+            throw new IllegalStateException("outbox.require-durable-sink is set but outbox.sink is "
+                + sink.getClass().getSimpleName() + "; configure a durable sink (e.g. OUTBOX_SINK=file)");
+        }
+
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.schedulerLease = schedulerLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retentionDays = retentionDays;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (!schedulerLease.tryAcquire(LEASE_NAME, leaseTtl)) {
+                return;
+            }
+            Integer published = transactionTemplate.execute(this::publishBatch);
+            if (published == null || published < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Delete published events older than the retention period; the change feed only reaches back this far
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 0 4 * * *}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("Outbox cleanup completed: deleted={}", deleted);
+    }
+
+    private int publishBatch(TransactionStatus status) {
+        List<OutboxEvent> events = outboxEventRepository.lockUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // Events are in insert order; sequence values are handed out in the same order
+        List<Long> feedSequences = outboxEventRepository.nextFeedSequences(events.size()).stream()
+            .map(Number::longValue)
+            .sorted(Comparator.naturalOrder())
+            .toList();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            event.setFeedSequence(feedSequences.get(i));
+            event.setPublishedAt(now);
+        }
+
+        try {
+            sink.publish(events.stream().map(ChangeEventDto::fromEntity).toList());
+        } catch (Exception e) {
+            // Roll back the assigned sequences; the gap they leave is harmless to feed cursors
+            status.setRollbackOnly();
+            log.warn("Outbox publish failed, will retry: size={}, reason={}", events.size(), e.getMessage());
+            return 0;
+        }
+
+        log.debug("Outbox batch published: size={}", events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,27 @@
+package com.smartwork.outbox;
+
+import com.smartwork.dto.outbox.ChangeEventDto;
+
+import java.util.List;
+
+/**
+ * Destination for published outbox events.
+ *
+ * <p>Delivery is at-least-once: a batch may be delivered again if the relay fails
+ * after {@link #publish(List)} returns, so consumers should de-duplicate by event ID
+ * (a redelivered event carries a new feed sequence).
+ */
+public interface OutboxSink {
+
+    /**
+     * Publish a batch in sequence order; throwing leaves the whole batch unpublished for retry
+     */
+    void publish(List<ChangeEventDto> events) throws Exception;
+
+    /**
+     * Whether published events survive a restart; {@code outbox.require-durable-sink} rejects sinks that do not
+     */
+    default boolean isDurable() {
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.smartwork.repository;
+
+import com.smartwork.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest unpublished events, locked until the transaction ends. A second relay waits on the
+     * lock and, once the first commits, Oracle restarts the statement and it moves on to later events.
+     * Native because Hibernate locks a paged JPQL query only after reading it (follow-on locking).
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE outbox_id IN (" +
+                   "SELECT outbox_id FROM (" +
+                   "SELECT outbox_id FROM outbox_events WHERE published_at IS NULL ORDER BY outbox_id" +
+                   ") WHERE ROWNUM <= :limit) " +
+                   "ORDER BY outbox_id FOR UPDATE", nativeQuery = true)
+    List<OutboxEvent> lockUnpublished(@Param("limit") int limit);
+
+    /**
+     * Change feed page by feed sequence; unpublished events have none and are not visible yet
+     */
+    @Query("SELECT e FROM OutboxEvent e " +
+           "WHERE e.aggregateType = :aggregateType AND e.feedSequence > :since " +
+           "ORDER BY e.feedSequence")
+    List<OutboxEvent> findChanges(@Param("aggregateType") String aggregateType,
+                                  @Param("since") Long since,
+                                  Pageable pageable);
+
+    /**
+     * Next {@code count} feed sequence values (Oracle returns NUMBER, hence {@link Number})
+     */
+    @Query(value = "SELECT OUTBOX_FEED_SEQ.NEXTVAL FROM dual CONNECT BY LEVEL <= :count", nativeQuery = true)
+    List<Number> nextFeedSequences(@Param("count") int count);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
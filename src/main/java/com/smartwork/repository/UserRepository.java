@@ -1,11 +1,19 @@
 package com.smartwork.repository;
 
 import com.smartwork.domain.User;
+import com.smartwork.dto.user.UserVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +41,110 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "WHERE u.username = :username AND u.isDeleted = false")
     Optional<User> findByUsernameWithRoles(@Param("username") String username);
 
+    /**
+     * Opted into the query cache. Hibernate invalidates the cached result whenever
+     * the {@code users} table is written through the persistence context or a bulk statement.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT u FROM User u WHERE u.department = :department AND u.status = 'ACTIVE' AND u.isDeleted = false")
     List<User> findActiveUsersByDepartment(@Param("department") String department);
+
+    @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE' AND u.isDeleted = false")
+    List<User> findAllActiveUsers();
+
+    @Query("SELECT u.id AS id, u.version AS version, u.createdAt AS createdAt, u.updatedAt AS updatedAt " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserVersionView> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT u.id AS id, u.version AS version, u.createdAt AS createdAt, u.updatedAt AS updatedAt " +
+           "FROM User u WHERE u.username = :username")
+    Optional<UserVersionView> findVersionByUsername(@Param("username") String username);
+
+    /**
+     * Set-based status change that bumps the version so concurrent single-row updates fail fast
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.version = u.version + 1, " +
+           "u.updatedAt = :now, u.updatedBy = :updatedBy " +
+           "WHERE u.id IN :ids AND u.isDeleted = false")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") User.UserStatus status,
+                          @Param("now") LocalDateTime now,
+                          @Param("updatedBy") String updatedBy);
+
+    /**
+     * Set-based activation; also clears lock state like {@link User#unlock()}
+     */
+    default int activateByIds(Collection<Long> ids, LocalDateTime now, String updatedBy) {
+        return updateStatusAndClearLockByIds(ids, User.UserStatus.ACTIVE, now, updatedBy);
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.failedLoginAttempts = 0, u.lockedUntil = null, " +
+           "u.version = u.version + 1, u.updatedAt = :now, u.updatedBy = :updatedBy " +
+           "WHERE u.id IN :ids AND u.isDeleted = false")
+    int updateStatusAndClearLockByIds(@Param("ids") Collection<Long> ids,
+                                      @Param("status") User.UserStatus status,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("updatedBy") String updatedBy);
+
+    @Query("SELECT u.id FROM User u WHERE u.status = 'LOCKED' AND u.lockedUntil <= :now " +
+           "AND u.isDeleted = false ORDER BY u.lockedUntil")
+    List<Long> findExpiredLockIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Set-based unlock of expired locks; re-checks the expiry so an account locked again meanwhile stays locked
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = 'ACTIVE', " +
+           "u.failedLoginAttempts = 0, u.lockedUntil = null, u.version = u.version + 1, u.updatedAt = :now, u.updatedBy = :updatedBy " +
+           "WHERE u.id IN :ids AND u.status = 'LOCKED' AND u.lockedUntil <= :now AND u.isDeleted = false")
+    int unlockExpiredByIds(@Param("ids") Collection<Long> ids,
+                           @Param("now") LocalDateTime now,
+                           @Param("updatedBy") String updatedBy);
+
+    /**
+     * Count a failed login that stays below the lock threshold; status and lock are untouched, so the
+     * caller has nothing to read back. Matches nothing once this attempt would reach the threshold.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.failedLoginAttempts = COALESCE(u.failedLoginAttempts, 0) + 1, " +
+           "u.version = u.version + 1, u.updatedAt = :now, u.updatedBy = :updatedBy " +
+           "WHERE u.id = :id AND u.status = 'ACTIVE' AND u.isDeleted = false " +
+           "AND COALESCE(u.failedLoginAttempts, 0) + 1 < :maxAttempts")
+    int incrementFailedAttemptsBelowThreshold(@Param("id") Long id,
+                                              @Param("maxAttempts") int maxAttempts,
+                                              @Param("now") LocalDateTime now,
+                                              @Param("updatedBy") String updatedBy);
+
+    /**
+     * Count a failed login and lock the account once the threshold is reached, in one statement.
+     * Only active accounts are counted, so concurrent failures cannot lose counts or overshoot the threshold.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.failedLoginAttempts = COALESCE(u.failedLoginAttempts, 0) + 1, " +
+           "u.status = CASE WHEN COALESCE(u.failedLoginAttempts, 0) + 1 >= :maxAttempts " +
+           "THEN 'LOCKED' ELSE u.status END, " +
+           "u.lockedUntil = CASE WHEN COALESCE(u.failedLoginAttempts, 0) + 1 >= :maxAttempts " +
+           "THEN :lockedUntil ELSE u.lockedUntil END, " +
+           "u.version = u.version + 1, u.updatedAt = :now, u.updatedBy = :updatedBy " +
+           "WHERE u.id = :id AND u.status = 'ACTIVE' AND u.isDeleted = false")
+    int incrementFailedAttempts(@Param("id") Long id,
+                                @Param("maxAttempts") int maxAttempts,
+                                @Param("lockedUntil") LocalDateTime lockedUntil,
+                                @Param("now") LocalDateTime now,
+                                @Param("updatedBy") String updatedBy);
+
+    /**
+     * Record a successful login; also clears an expired lock. Matches nothing if the account was locked meanwhile.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.lastLoginAt = :now, u.failedLoginAttempts = 0, " +
+           "u.status = 'ACTIVE', u.lockedUntil = null, " +
+           "u.version = u.version + 1, u.updatedAt = :now, u.updatedBy = :updatedBy " +
+           "WHERE u.id = :id AND u.isDeleted = false " +
+           "AND (u.status = 'ACTIVE' OR (u.status = 'LOCKED' AND u.lockedUntil <= :now))")
+    int recordSuccessfulLogin(@Param("id") Long id,
+                              @Param("now") LocalDateTime now,
+                              @Param("updatedBy") String updatedBy);
 }
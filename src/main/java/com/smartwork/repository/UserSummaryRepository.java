@@ -0,0 +1,14 @@
+package com.smartwork.repository;
+
+import com.smartwork.domain.UserSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Read-only repository for the {@link UserSummary} view; exposes no save or delete methods.
+ */
+public interface UserSummaryRepository extends Repository<UserSummary, Long> {
+
+    Page<UserSummary> findAll(Pageable pageable);
+}
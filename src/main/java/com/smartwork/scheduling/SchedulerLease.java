@@ -0,0 +1,68 @@
+package com.smartwork.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Database lease that picks one node to run a scheduled job ({@code scheduler_lease},
+ * see db/oracle/06_scheduler_lease.sql).
+ *
+ * <p>A node holds a lease until it expires; the holder renews it on every run, any other node
+ * can take it over once it has expired. Expiry is compared against the database clock so node
+ * clock skew does not matter, and stored and compared in UTC: {@code expires_at} is a plain
+ * TIMESTAMP, which Oracle would otherwise interpret in each session's time zone when compared
+ * with SYSTIMESTAMP. The TTL must be longer than one run of the job it guards.
+ */
+@Slf4j
+@Component
+public class SchedulerLease {
+
+    private static final String RENEW_SQL =
+        "UPDATE scheduler_lease SET owner = ?, expires_at = SYS_EXTRACT_UTC(SYSTIMESTAMP) + NUMTODSINTERVAL(?, 'SECOND') " +
+        "WHERE lease_name = ? AND (owner = ? OR expires_at < SYS_EXTRACT_UTC(SYSTIMESTAMP))";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO scheduler_lease (lease_name, owner, expires_at) " +
+        "VALUES (?, ?, SYS_EXTRACT_UTC(SYSTIMESTAMP) + NUMTODSINTERVAL(?, 'SECOND'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+
+    public SchedulerLease(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.application.name:smartwork}") String applicationName) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = applicationName + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Acquire or renew the named lease for this node
+     *
+     * @return true if this node holds the lease for the next {@code ttl}
+     */
+    public boolean tryAcquire(String leaseName, Duration ttl) {
+        long ttlSeconds = Math.max(1, ttl.toSeconds());
+        try {
+            if (jdbcTemplate.update(RENEW_SQL, nodeId, ttlSeconds, leaseName, nodeId) == 1) {
+                return true;
+            }
+            jdbcTemplate.update(INSERT_SQL, leaseName, nodeId, ttlSeconds);
+            log.info("Scheduler lease acquired: lease={}, node={}", leaseName, nodeId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Held by another node
+            return false;
+        } catch (DataAccessException e) {
+            log.warn("Scheduler lease check failed, skipping run: lease={}, reason={}", leaseName, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.smartwork.search;
+
+import java.util.Arrays;
+
+/**
+ * Gram keys shared by the index and the query side.
+ *
+ * <p>A unigram key is the character itself, a bigram key packs both characters into one int.
+ * The second character of every indexed gram is also indexed in its half-typed forms
+ * ({@link Hangul#typingForms}), and Hangul text additionally under its initial consonants.
+ */
+final class Grams {
+
+    private Grams() {
+    }
+
+    static int unigram(char c) {
+        return c;
+    }
+
+    static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * Append every gram key of a normalized field value to {@code sink}
+     */
+    static void addFieldGrams(String text, KeyBuffer sink) {
+        char[] forms = new char[3];
+        char previous = 0;
+        char previousChosung = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int formCount = Hangul.typingForms(c, forms);
+
+            sink.add(unigram(c));
+            for (int f = 0; f < formCount; f++) {
+                sink.add(unigram(forms[f]));
+            }
+            if (i > 0) {
+                sink.add(bigram(previous, c));
+                for (int f = 0; f < formCount; f++) {
+                    sink.add(bigram(previous, forms[f]));
+                }
+            }
+
+            char chosung = Hangul.chosung(c);
+            if (chosung != c) {
+                sink.add(unigram(chosung));
+            }
+            if (i > 0 && (chosung != c || previousChosung != previous)) {
+                sink.add(bigram(previousChosung, chosung));
+            }
+            previous = c;
+            previousChosung = chosung;
+        }
+    }
+
+    /**
+     * Grams every match of the query text must contain: its bigrams, or the single character
+     */
+    static int[] queryGrams(String text) {
+        if (text.isEmpty()) {
+            return new int[0];
+        }
+        if (text.length() == 1) {
+            return new int[]{unigram(text.charAt(0))};
+        }
+        int[] grams = new int[text.length() - 1];
+        for (int i = 1; i < text.length(); i++) {
+            grams[i - 1] = bigram(text.charAt(i - 1), text.charAt(i));
+        }
+        return grams;
+    }
+
+    /**
+     * Reusable, growable buffer of gram keys
+     */
+    static final class KeyBuffer {
+
+        private int[] keys = new int[256];
+        private int size;
+
+        void add(int key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = key;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        int[] keys() {
+            return keys;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
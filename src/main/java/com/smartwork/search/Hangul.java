@@ -0,0 +1,217 @@
+package com.smartwork.search;
+
+/**
+ * Hangul syllable decomposition for initial-consonant (초성) and as-you-type matching.
+ *
+ * <p>Works on precomposed syllables (U+AC00–U+D7A3) and compatibility jamo (U+3131–U+3163).
+ * Compound vowels and finals are split into the keys typed for them (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ),
+ * so a half-typed syllable matches the syllable it will become.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+    private static final int CHOSUNG_STRIDE = JUNGSUNG_COUNT * JONGSUNG_COUNT;
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * Vowels as typed; compound vowels take two keystrokes
+     */
+    private static final String[] JUNGSUNG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+        "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    /**
+     * Finals as typed; index 0 is "no final"
+     */
+    private static final String[] JONGSUNG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+        "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+        "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /**
+     * Compound vowel → the simple vowel typed first (-1 for simple vowels)
+     */
+    private static final int[] JUNGSUNG_FIRST = {
+        -1, -1, -1, -1, -1, -1, -1, -1, -1, 8,
+        8, 8, -1, -1, 13, 13, 13, -1, -1, 18, -1
+    };
+
+    /**
+     * Compound final → the simple final typed first (-1 for simple or no final)
+     */
+    private static final int[] JONGSUNG_FIRST = {
+        -1, -1, -1, 1, -1, 4, 4, -1, -1, 8,
+        8, 8, 8, 8, 8, 8, -1, -1, 17, -1,
+        -1, -1, -1, -1, -1, -1, -1, -1
+    };
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * Compatibility jamo typed on its own (ㄱ–ㅣ)
+     */
+    public static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * True if every character is a consonant, e.g. "ㄱㄷ" for 김동
+     */
+    public static boolean isChosungQuery(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isConsonant(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Initial consonant of a syllable; other characters map to themselves
+     */
+    public static char chosung(char c) {
+        return isSyllable(c) ? CHOSUNG[(c - SYLLABLE_FIRST) / CHOSUNG_STRIDE] : c;
+    }
+
+    /**
+     * Forms a syllable passes through while it is being typed, excluding the syllable itself:
+     * 곽 → 고, 과; 닭 → 다, 달. Written into {@code out}; returns the count (at most 3).
+     */
+    static int typingForms(char c, char[] out) {
+        if (!isSyllable(c)) {
+            return 0;
+        }
+        int code = c - SYLLABLE_FIRST;
+        int cho = code / CHOSUNG_STRIDE;
+        int jung = (code % CHOSUNG_STRIDE) / JONGSUNG_COUNT;
+        int jong = code % JONGSUNG_COUNT;
+
+        int count = 0;
+        if (JUNGSUNG_FIRST[jung] >= 0) {
+            out[count++] = compose(cho, JUNGSUNG_FIRST[jung], 0);
+        }
+        if (jong != 0) {
+            out[count++] = compose(cho, jung, 0);
+            if (JONGSUNG_FIRST[jong] >= 0) {
+                out[count++] = compose(cho, jung, JONGSUNG_FIRST[jong]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Keystroke sequence for the text: 김ㅊ → ㄱㅣㅁㅊ
+     */
+    public static String toJamo(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_FIRST;
+                jamo.append(CHOSUNG[code / CHOSUNG_STRIDE])
+                    .append(JUNGSUNG[(code % CHOSUNG_STRIDE) / JONGSUNG_COUNT])
+                    .append(JONGSUNG[code % JONGSUNG_COUNT]);
+            } else {
+                jamo.append(c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * Position of the first syllable whose initial consonants spell out {@code chosung}, or -1
+     */
+    public static int indexOfChosung(String text, String chosung) {
+        int last = text.length() - chosung.length();
+        for (int start = 0; start <= last; start++) {
+            int i = 0;
+            while (i < chosung.length() && chosung(text.charAt(start + i)) == chosung.charAt(i)) {
+                i++;
+            }
+            if (i == chosung.length()) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position of the first syllable from which the text's keystrokes begin with {@code jamo}, or -1.
+     * Matches only start at syllable boundaries, so 동일 does not match "ㅇㅇ".
+     */
+    public static int indexOfJamo(String text, String jamo) {
+        for (int start = 0; start < text.length(); start++) {
+            if (jamoStartsAt(text, start, jamo)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean jamoStartsAt(String text, int start, String jamo) {
+        int matched = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                if (c != jamo.charAt(matched++)) {
+                    return false;
+                }
+            } else {
+                int code = c - SYLLABLE_FIRST;
+                if (CHOSUNG[code / CHOSUNG_STRIDE] != jamo.charAt(matched++)) {
+                    return false;
+                }
+                if (matched < jamo.length()) {
+                    matched = matchKeys(JUNGSUNG[(code % CHOSUNG_STRIDE) / JONGSUNG_COUNT], jamo, matched);
+                }
+                if (matched >= 0 && matched < jamo.length()) {
+                    matched = matchKeys(JONGSUNG[code % JONGSUNG_COUNT], jamo, matched);
+                }
+                if (matched < 0) {
+                    return false;
+                }
+            }
+            if (matched == jamo.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compare keys against jamo from {@code offset}; returns the new offset or -1 on mismatch
+     */
+    private static int matchKeys(String keys, String jamo, int offset) {
+        for (int k = 0; k < keys.length() && offset < jamo.length(); k++) {
+            if (keys.charAt(k) != jamo.charAt(offset++)) {
+                return -1;
+            }
+        }
+        return offset;
+    }
+
+    private static char compose(int cho, int jung, int jong) {
+        return (char) (SYLLABLE_FIRST + cho * CHOSUNG_STRIDE + jung * JONGSUNG_COUNT + jong);
+    }
+}
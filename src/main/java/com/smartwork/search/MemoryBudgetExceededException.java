@@ -0,0 +1,12 @@
+package com.smartwork.search;
+
+/**
+ * Aborts an index rebuild whose estimated size passed its memory budget; the previous index is kept.
+ * Expected, so no stack trace is captured.
+ */
+class MemoryBudgetExceededException extends RuntimeException {
+
+    MemoryBudgetExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,114 @@
+package com.smartwork.search;
+
+import java.util.Arrays;
+
+/**
+ * Collects key → ordinal postings into growable int arrays keyed by an open-addressing table,
+ * then packs them into the sorted key / offset / postings arrays of {@link UserSearchIndex}.
+ * Ordinals must be added in ascending order so every posting list comes out sorted.
+ */
+final class PostingsBuilder {
+
+    private int[] tableKeys = new int[1 << 16];
+    private int[] tableSlots = new int[1 << 16];   // slot + 1; 0 = empty
+    private int[][] lists = new int[1 << 15][];
+    private int[] sizes = new int[1 << 15];
+    private int slotCount;
+    private long postingCount;
+
+    /**
+     * Add the document to the postings of each distinct key in the buffer
+     */
+    void add(int ordinal, Grams.KeyBuffer buffer) {
+        int[] keys = buffer.keys();
+        int count = buffer.size();
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && keys[i] == keys[i - 1]) {
+                continue;
+            }
+            int slot = slotFor(keys[i]);
+            int[] list = lists[slot];
+            if (sizes[slot] == list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+                lists[slot] = list;
+            }
+            list[sizes[slot]++] = ordinal;
+            postingCount++;
+        }
+    }
+
+    UserSearchIndex.Postings build() {
+        long[] order = new long[slotCount];
+        int n = 0;
+        for (int i = 0; i < tableSlots.length; i++) {
+            if (tableSlots[i] != 0) {
+                order[n++] = ((long) tableKeys[i] << 32) | (tableSlots[i] - 1);
+            }
+        }
+        Arrays.sort(order);
+
+        int[] keys = new int[slotCount];
+        int[] offsets = new int[slotCount + 1];
+        int[] postings = new int[Math.toIntExact(postingCount)];
+        int position = 0;
+        for (int k = 0; k < slotCount; k++) {
+            int slot = (int) order[k];
+            keys[k] = (int) (order[k] >> 32);
+            offsets[k] = position;
+            System.arraycopy(lists[slot], 0, postings, position, sizes[slot]);
+            position += sizes[slot];
+            lists[slot] = null;
+        }
+        offsets[slotCount] = position;
+        return new UserSearchIndex.Postings(keys, offsets, postings);
+    }
+
+    private int slotFor(int key) {
+        int mask = tableKeys.length - 1;
+        int i = mix(key) & mask;
+        while (tableSlots[i] != 0) {
+            if (tableKeys[i] == key) {
+                return tableSlots[i] - 1;
+            }
+            i = (i + 1) & mask;
+        }
+
+        int slot = slotCount++;
+        if (slot == lists.length) {
+            lists = Arrays.copyOf(lists, slot * 2);
+            sizes = Arrays.copyOf(sizes, slot * 2);
+        }
+        lists[slot] = new int[4];
+        tableKeys[i] = key;
+        tableSlots[i] = slot + 1;
+        if (slotCount * 2 > tableKeys.length) {
+            rehash();
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] oldKeys = tableKeys;
+        int[] oldSlots = tableSlots;
+        tableKeys = new int[oldKeys.length * 2];
+        tableSlots = new int[oldSlots.length * 2];
+        int mask = tableKeys.length - 1;
+        for (int j = 0; j < oldSlots.length; j++) {
+            if (oldSlots[j] == 0) {
+                continue;
+            }
+            int i = mix(oldKeys[j]) & mask;
+            while (tableSlots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            tableKeys[i] = oldKeys[j];
+            tableSlots[i] = oldSlots[j];
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,64 @@
+package com.smartwork.search;
+
+import com.smartwork.domain.User;
+
+import java.util.Locale;
+
+/**
+ * Searchable fields of one active user, plus what a search result displays.
+ * Department and position values repeat heavily; the index builder shares one instance per value.
+ */
+public record SearchDocument(
+    long userId,
+    String username,
+    String employeeId,
+    String name,
+    String department,
+    String position
+) {
+
+    public static SearchDocument from(User user) {
+        return new SearchDocument(user.getId(), user.getUsername(), user.getEmployeeId(),
+            user.getName(), user.getDepartment(), user.getPosition());
+    }
+
+    public static boolean isSearchable(User user) {
+        return user.getStatus() == User.UserStatus.ACTIVE && !Boolean.TRUE.equals(user.getIsDeleted());
+    }
+
+    /**
+     * Value of a searchable field
+     */
+    String field(SearchField field) {
+        return switch (field) {
+            case NAME -> name;
+            case DEPARTMENT -> department;
+            case POSITION -> position;
+        };
+    }
+
+    /**
+     * Form used for matching: lower case without whitespace. Returns the input when nothing changes.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length() && !Character.isWhitespace(lower.charAt(i))) {
+            i++;
+        }
+        if (i == lower.length()) {
+            return lower;
+        }
+        StringBuilder stripped = new StringBuilder(lower.length()).append(lower, 0, i);
+        for (; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString();
+    }
+}
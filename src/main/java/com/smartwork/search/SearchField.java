@@ -0,0 +1,21 @@
+package com.smartwork.search;
+
+/**
+ * Fields covered by the directory search, with their ranking weight
+ */
+public enum SearchField {
+
+    NAME(3),
+    DEPARTMENT(2),
+    POSITION(1);
+
+    private final int weight;
+
+    SearchField(int weight) {
+        this.weight = weight;
+    }
+
+    public int weight() {
+        return weight;
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartwork.search;
+
+import java.util.Comparator;
+
+/**
+ * One ranked search result
+ */
+public record SearchHit(SearchDocument document, int score) {
+
+    /**
+     * Best first: higher score, then shorter name, then lower user ID
+     */
+    static final Comparator<SearchHit> RANKING = Comparator
+        .comparingInt(SearchHit::score).reversed()
+        .thenComparingInt(hit -> nameLength(hit.document()))
+        .thenComparingLong(hit -> hit.document().userId());
+
+    /**
+     * Whether a hit for the document with this score would rank before {@code hit}, without creating it
+     */
+    static boolean outranks(SearchDocument document, int score, SearchHit hit) {
+        if (score != hit.score()) {
+            return score > hit.score();
+        }
+        int length = nameLength(document);
+        int otherLength = nameLength(hit.document());
+        if (length != otherLength) {
+            return length < otherLength;
+        }
+        return document.userId() < hit.document().userId();
+    }
+
+    static int nameLength(SearchDocument document) {
+        return document.name() == null ? Integer.MAX_VALUE : document.name().length();
+    }
+}
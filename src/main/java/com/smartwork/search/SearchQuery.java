@@ -0,0 +1,83 @@
+package com.smartwork.search;
+
+/**
+ * Parsed search text: the grams that select candidates and the rules that score a field.
+ *
+ * <p>A query of consonants only ("ㄱㄷ") is matched against initial consonants. Any other query
+ * is matched literally, and failing that by keystrokes, so "홍기" or "김ㅊ" find 홍길동 and 김철수
+ * while the last syllable is still being typed.
+ */
+final class SearchQuery {
+
+    private static final int EXACT = 8;
+    private static final int PREFIX = 4;
+    private static final int CONTAINS = 2;
+    private static final int PARTIAL_PREFIX = 2;
+    private static final int PARTIAL_CONTAINS = 1;
+
+    private final String text;
+    private final String jamo;
+    private final boolean chosung;
+    private final int[] grams;
+
+    private SearchQuery(String text, String jamo, boolean chosung, int[] grams) {
+        this.text = text;
+        this.jamo = jamo;
+        this.chosung = chosung;
+        this.grams = grams;
+    }
+
+    /**
+     * @return null if the text contains nothing searchable
+     */
+    static SearchQuery parse(String raw) {
+        String text = SearchDocument.normalize(raw);
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        if (Hangul.isChosungQuery(text)) {
+            return new SearchQuery(text, null, true, Grams.queryGrams(text));
+        }
+
+        // Trailing lone jamo are the start of the next syllable; only the text before them selects candidates
+        int complete = text.length();
+        while (complete > 0 && Hangul.isJamo(text.charAt(complete - 1))) {
+            complete--;
+        }
+        if (complete == 0) {
+            return null;
+        }
+        String jamo = Hangul.toJamo(text);
+        return new SearchQuery(text, jamo.equals(text) ? null : jamo, false,
+            Grams.queryGrams(text.substring(0, complete)));
+    }
+
+    int[] grams() {
+        return grams;
+    }
+
+    /**
+     * Weighted match score of one normalized field value; 0 if it does not match
+     */
+    int score(String value, SearchField field) {
+        if (value == null || value.isEmpty()) {
+            return 0;
+        }
+        int tier;
+        if (chosung) {
+            int at = Hangul.indexOfChosung(value, text);
+            tier = at < 0 ? 0 : at == 0 ? PARTIAL_PREFIX : PARTIAL_CONTAINS;
+        } else {
+            int at = value.indexOf(text);
+            if (at >= 0) {
+                tier = at > 0 ? CONTAINS : value.length() == text.length() ? EXACT : PREFIX;
+            } else if (jamo != null) {
+                at = Hangul.indexOfJamo(value, jamo);
+                tier = at < 0 ? 0 : at == 0 ? PARTIAL_PREFIX : PARTIAL_CONTAINS;
+            } else {
+                tier = 0;
+            }
+        }
+        return tier * field.weight();
+    }
+}
@@ -0,0 +1,18 @@
+package com.smartwork.search;
+
+/**
+ * Immutable index over a snapshot of active users, served by a {@link SnapshotIndexService}
+ */
+public interface SnapshotIndex {
+
+    int size();
+
+    int keyCount();
+
+    long estimatedBytes();
+
+    /**
+     * Hide the user's snapshot document; a newer version (if any) lives in the overlay
+     */
+    void supersede(long userId);
+}
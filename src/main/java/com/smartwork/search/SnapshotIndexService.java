@@ -0,0 +1,323 @@
+package com.smartwork.search;
+
+import com.smartwork.cache.InvalidationListener;
+import com.smartwork.cache.InvalidationMessage;
+import com.smartwork.cache.UserInvalidationPublisher;
+import com.smartwork.domain.User;
+import com.smartwork.event.UserChangedEvent;
+import com.smartwork.exception.BusinessException;
+import com.smartwork.exception.ErrorCode;
+import com.smartwork.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Lifecycle shared by the in-memory user indexes: an immutable {@link SnapshotIndex} plus a small
+ * overlay of users changed since the snapshot.
+ *
+ * <p>The overlay is kept current from {@link UserChangedEvent}s after commit and from the
+ * {@link com.smartwork.cache.CacheInvalidationBus}. The snapshot is rebuilt on a background thread
+ * on request (schedule, startup, full invalidation) and whenever the overlay grows past its limit.
+ * Changes made while a rebuild reads the database are replayed onto the new snapshot before it is
+ * swapped in. A rebuild is abandoned as soon as its estimated size passes the memory budget, usually
+ * while still reading users, and the previous snapshot kept.
+ *
+ * <p>Subclasses decide how users are read and indexed, what an overlay entry holds and how to query.
+ * Public so the listener methods are inherited as they are: for a package-private base class javac adds
+ * bridge methods to the subclasses, and Spring does not reliably register those as event listeners.
+ *
+ * @param <I> snapshot index
+ * @param <E> overlay entry
+ */
+@Slf4j
+public abstract class SnapshotIndexService<I extends SnapshotIndex, E> implements InvalidationListener {
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final int maxOverlay;
+    private final int fetchSize;
+    private final long memoryBudgetBytes;
+    private final Timer queryTimer;
+    private final Timer buildTimer;
+    private final Counter budgetRejections;
+
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final Object writeLock = new Object();
+
+    private volatile Snapshot<I, E> snapshot;
+
+    /**
+     * Changes applied while a rebuild is reading the database, replayed in order onto the new snapshot
+     */
+    private List<Consumer<Snapshot<I, E>>> pendingDuringRebuild;
+
+    /**
+     * @param name metric prefix and thread name part, e.g. "search"
+     */
+    protected SnapshotIndexService(String name, JdbcTemplate jdbcTemplate, UserRepository userRepository,
+                                   MeterRegistry meterRegistry, boolean enabled, int maxOverlay, int fetchSize,
+                                   long memoryBudgetMb) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.maxOverlay = maxOverlay;
+        this.fetchSize = fetchSize;
+        this.memoryBudgetBytes = memoryBudgetMb * 1024 * 1024;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-" + name + "-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.queryTimer = Timer.builder(name + ".query")
+            .description("In-memory user " + name + " time, excluding HTTP handling")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.buildTimer = Timer.builder(name + ".index.build")
+            .description("Time to read all active users and build the " + name + " index")
+            .register(meterRegistry);
+        this.budgetRejections = Counter.builder(name + ".index.budget.rejected")
+            .description("Rebuilds discarded because the index exceeded its memory budget")
+            .register(meterRegistry);
+        Gauge.builder(name + ".index.documents", this, service -> service.snapshotSize(Snapshot::documents))
+            .register(meterRegistry);
+        Gauge.builder(name + ".index.bytes", this, service -> service.snapshotSize(Snapshot::estimatedBytes))
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(name + ".index.overlay", this, service -> service.snapshotSize(Snapshot::overlaySize))
+            .register(meterRegistry);
+    }
+
+    /**
+     * Read all active users and build a new snapshot index, typically through {@link #load}
+     */
+    protected abstract I buildIndex();
+
+    /**
+     * Bring the overlay up to date with the user's committed state
+     */
+    protected abstract void apply(User user);
+
+    /**
+     * Current snapshot for a query
+     */
+    protected Snapshot<I, E> snapshot() {
+        Snapshot<I, E> current = snapshot;
+        if (current == null) {
+            throw new BusinessException(ErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+        return current;
+    }
+
+    protected void recordQuery(long startNanos) {
+        queryTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.PASSWORD_CHANGED) {
+            return;
+        }
+        for (User user : event.users()) {
+            apply(user);
+        }
+    }
+
+    /**
+     * Reload users changed on another node
+     */
+    @Override
+    public void invalidate(List<InvalidationMessage.Entry> entries) {
+        Set<Long> userIds = new HashSet<>();
+        for (InvalidationMessage.Entry entry : entries) {
+            if (UserInvalidationPublisher.USER.equals(entry.entityType())) {
+                userIds.add(entry.id());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        for (User user : userRepository.findAllById(userIds)) {
+            userIds.remove(user.getId());
+            apply(user);
+        }
+        // Not found: deleted (hidden by @SQLRestriction)
+        for (Long userId : userIds) {
+            remove(userId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        requestRebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        requestRebuild();
+    }
+
+    /**
+     * Queue a rebuild on the background thread unless one is already queued or running
+     */
+    public void requestRebuild() {
+        if (enabled && rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Apply a change to the current snapshot and, while a rebuild runs, record it for replay onto the next
+     */
+    protected void write(Consumer<Snapshot<I, E>> change) {
+        synchronized (writeLock) {
+            Snapshot<I, E> current = snapshot;
+            if (current != null) {
+                change.accept(current);
+                if (current.overlay().size() > maxOverlay) {
+                    requestRebuild();
+                }
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        }
+    }
+
+    protected void remove(long userId) {
+        write(current -> current.remove(userId));
+    }
+
+    /**
+     * Stream active users with plain JDBC so a rebuild never holds a persistence context of every user.
+     * Stops reading as soon as the rows alone are estimated past the memory budget.
+     */
+    protected <T> List<T> load(String sql, RowMapper<T> rowMapper, ToLongFunction<T> estimatedBytes) {
+        List<T> rows = new ArrayList<>();
+        long[] estimated = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            T row = rowMapper.mapRow(resultSet, rows.size());
+            estimated[0] += estimatedBytes.applyAsLong(row);
+            if (estimated[0] > memoryBudgetBytes) {
+                throw new MemoryBudgetExceededException(String.format(
+                    "stopped reading after %d documents, estimated=%dKB, budget=%dKB",
+                    rows.size() + 1, estimated[0] / 1024, memoryBudgetBytes / 1024));
+            }
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    private void rebuild() {
+        try {
+            synchronized (writeLock) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+
+            long start = System.nanoTime();
+            I index = buildIndex();
+            long elapsed = System.nanoTime() - start;
+            buildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (index.estimatedBytes() > memoryBudgetBytes) {
+                throw new MemoryBudgetExceededException(String.format("documents=%d, estimated=%dKB, budget=%dKB",
+                    index.size(), index.estimatedBytes() / 1024, memoryBudgetBytes / 1024));
+            }
+
+            synchronized (writeLock) {
+                Snapshot<I, E> next = new Snapshot<>(index, new ConcurrentHashMap<>());
+                pendingDuringRebuild.forEach(change -> change.accept(next));
+                pendingDuringRebuild = null;
+                snapshot = next;
+            }
+            log.info("User {} index rebuilt: documents={}, keys={}, estimated={}KB, took={}ms",
+                name, index.size(), index.keyCount(), index.estimatedBytes() / 1024,
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } catch (MemoryBudgetExceededException e) {
+            clearPending();
+            budgetRejections.increment();
+            log.error("User {} index over memory budget, keeping {}: {}",
+                name, snapshot != null ? "previous index" : name + " unavailable", e.getMessage());
+        } catch (RuntimeException e) {
+            clearPending();
+            log.error("User {} index rebuild failed: {}", name, e.getMessage());
+        } finally {
+            rebuildQueued.set(false);
+        }
+    }
+
+    private void clearPending() {
+        synchronized (writeLock) {
+            pendingDuringRebuild = null;
+        }
+    }
+
+    private double snapshotSize(ToLongFunction<Snapshot<I, E>> metric) {
+        Snapshot<I, E> current = snapshot;
+        return current == null ? 0 : metric.applyAsLong(current);
+    }
+
+    /**
+     * Snapshot index plus the users changed since it was built
+     */
+    protected record Snapshot<I extends SnapshotIndex, E>(I index, Map<Long, E> overlay) {
+
+        /**
+         * Overlay first: a concurrent query may briefly see both versions, never neither
+         */
+        void put(long userId, E entry) {
+            overlay.put(userId, entry);
+            index.supersede(userId);
+        }
+
+        void remove(long userId) {
+            index.supersede(userId);
+            overlay.remove(userId);
+        }
+
+        long documents() {
+            return index.size();
+        }
+
+        long estimatedBytes() {
+            return index.estimatedBytes();
+        }
+
+        long overlaySize() {
+            return overlay.size();
+        }
+    }
+}
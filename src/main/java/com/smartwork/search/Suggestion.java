@@ -0,0 +1,28 @@
+package com.smartwork.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+
+/**
+ * One typeahead candidate: the user and how recently they logged in
+ *
+ * @param recency minutes since the epoch of the last login; 0 if the user never logged in
+ */
+public record Suggestion(SearchDocument document, int recency) {
+
+    /**
+     * Most recent login first, then lower user ID
+     */
+    static final Comparator<Suggestion> RANKING = Comparator
+        .comparingInt(Suggestion::recency).reversed()
+        .thenComparingLong(suggestion -> suggestion.document().userId());
+
+    static int recencyOf(LocalDateTime lastLoginAt) {
+        return lastLoginAt == null ? 0 : (int) Math.max(1, lastLoginAt.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    Suggestion withRecency(int recency) {
+        return recency > this.recency ? new Suggestion(document, recency) : this;
+    }
+}
@@ -0,0 +1,488 @@
+package com.smartwork.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable inverted index over a snapshot of active users.
+ *
+ * <p>Documents are numbered by ascending user ID. Names are indexed per document. Departments and
+ * positions repeat across thousands of users, so their grams index the distinct values instead and
+ * each value keeps its member list; this keeps the postings close to one entry per name gram.
+ * Every posting set is a sorted key array, an offset array and one int array of ordinals. Posting
+ * lists are in ascending ordinal order, except member lists: those are in {@link SearchHit#RANKING}
+ * order among equal scores (shorter name, then lower user ID), so a walk over a value can stop at
+ * the first member that no longer makes the top k.
+ *
+ * <p>A document changed after the snapshot is marked superseded and served from the overlay of
+ * {@link UserSearchService} until the next rebuild.
+ */
+final class UserSearchIndex implements SnapshotIndex {
+
+    static final UserSearchIndex EMPTY = build(List.of());
+
+    private final long[] userIds;
+    private final SearchDocument[] documents;
+    private final String[] names;
+    private final Postings nameGrams;
+    private final DictionaryField departments;
+    private final DictionaryField positions;
+    private final AtomicLongArray superseded;
+    private final long estimatedBytes;
+
+    private UserSearchIndex(long[] userIds, SearchDocument[] documents, String[] names, Postings nameGrams,
+                            DictionaryField departments, DictionaryField positions, long estimatedBytes) {
+        this.userIds = userIds;
+        this.documents = documents;
+        this.names = names;
+        this.nameGrams = nameGrams;
+        this.departments = departments;
+        this.positions = positions;
+        this.superseded = new AtomicLongArray((documents.length + 63) >>> 6);
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Build an index; documents may come in any order but user IDs must be unique
+     */
+    static UserSearchIndex build(Collection<SearchDocument> source) {
+        SearchDocument[] documents = source.toArray(new SearchDocument[0]);
+        Arrays.sort(documents, (a, b) -> Long.compare(a.userId(), b.userId()));
+
+        int size = documents.length;
+        long[] userIds = new long[size];
+        String[] names = new String[size];
+        DictionaryBuilder departments = new DictionaryBuilder(SearchField.DEPARTMENT, size);
+        DictionaryBuilder positions = new DictionaryBuilder(SearchField.POSITION, size);
+        PostingsBuilder nameGrams = new PostingsBuilder();
+        Grams.KeyBuffer keys = new Grams.KeyBuffer();
+
+        long stringBytes = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            SearchDocument document = documents[ordinal];
+            String department = departments.add(ordinal, document.department());
+            String position = positions.add(ordinal, document.position());
+            if (department != document.department() || position != document.position()) {
+                document = new SearchDocument(document.userId(), document.username(), document.employeeId(),
+                    document.name(), department, position);
+                documents[ordinal] = document;
+            }
+            userIds[ordinal] = document.userId();
+
+            String name = SearchDocument.normalize(document.name());
+            names[ordinal] = name == null || name.equals(document.name()) ? document.name() : name;
+            stringBytes += stringBytes(document.name()) + stringBytes(document.username())
+                + stringBytes(document.employeeId()) + (names[ordinal] != document.name() ? stringBytes(name) : 0);
+
+            if (names[ordinal] != null) {
+                keys.clear();
+                Grams.addFieldGrams(names[ordinal], keys);
+                nameGrams.add(ordinal, keys);
+            }
+        }
+
+        Postings namePostings = nameGrams.build();
+        DictionaryField departmentField = departments.build(documents);
+        DictionaryField positionField = positions.build(documents);
+        long estimatedBytes = namePostings.bytes() + departmentField.bytes() + positionField.bytes()
+            + 8L * size                 // userIds
+            + 8L * size                 // document and name references
+            + 48L * size                // SearchDocument objects
+            + stringBytes;
+        return new UserSearchIndex(userIds, documents, names, namePostings,
+            departmentField, positionField, estimatedBytes);
+    }
+
+    /**
+     * Lower bound of what one document adds to an index, for checking the budget while documents
+     * are still being read: its share of the per-document arrays and object, its strings, a member
+     * entry per dictionary field and a unigram and a bigram posting per name character
+     */
+    static long estimatedDocumentBytes(SearchDocument document) {
+        int nameLength = document.name() == null ? 0 : document.name().length();
+        return 64L + 8L + 8L * nameLength
+            + stringBytes(document.name()) + stringBytes(document.username()) + stringBytes(document.employeeId());
+    }
+
+    @Override
+    public int size() {
+        return documents.length;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public int keyCount() {
+        return nameGrams.keys().length + departments.grams.keys().length + positions.grams.keys().length;
+    }
+
+    /**
+     * Hide the user's snapshot document; a newer version (if any) lives in the overlay
+     */
+    @Override
+    public void supersede(long userId) {
+        int ordinal = Arrays.binarySearch(userIds, userId);
+        if (ordinal >= 0) {
+            int word = ordinal >>> 6;
+            long bit = 1L << ordinal;
+            long current;
+            do {
+                current = superseded.get(word);
+            } while ((current & bit) == 0 && !superseded.compareAndSet(word, current, current | bit));
+        }
+    }
+
+    private boolean isSuperseded(int ordinal) {
+        return (superseded.get(ordinal >>> 6) & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Score every matching snapshot document into {@code topK}.
+     * A document is scored once: in the name pass if its name matches, otherwise in the
+     * department pass, otherwise in the position pass. Name matches come out of the name pass
+     * in ascending order, so the later passes exclude them by binary search. A member can score
+     * no more than its value or, in the department pass, the best matching position, so each value's
+     * walk ends once the top k is full and its next member would not rank higher at that bound.
+     */
+    void search(SearchQuery query, TopK topK) {
+        int[] grams = query.grams();
+        if (grams.length == 0 || documents.length == 0) {
+            return;
+        }
+
+        int[] departmentScores = departments.matchingScores(query);
+        int[] positionScores = positions.matchingScores(query);
+
+        Ordinals nameMatches = new Ordinals();
+        intersect(nameGrams, grams, ordinal -> {
+            if (!isSuperseded(ordinal)) {
+                int nameScore = query.score(names[ordinal], SearchField.NAME);
+                int score = Math.max(nameScore,
+                    Math.max(departments.score(departmentScores, ordinal), positions.score(positionScores, ordinal)));
+                if (score > 0) {
+                    topK.offer(documents[ordinal], score);
+                }
+                if (nameScore > 0) {
+                    nameMatches.add(ordinal);
+                }
+            }
+        });
+
+        if (departmentScores != null) {
+            departments.forEachMember(departmentScores, max(positionScores), documents, topK, ordinal -> {
+                if (!isSuperseded(ordinal) && !nameMatches.contains(ordinal)) {
+                    topK.offer(documents[ordinal], Math.max(departments.score(departmentScores, ordinal),
+                        positions.score(positionScores, ordinal)));
+                }
+            });
+        }
+        if (positionScores != null) {
+            positions.forEachMember(positionScores, 0, documents, topK, ordinal -> {
+                if (!isSuperseded(ordinal) && !nameMatches.contains(ordinal)
+                        && departments.score(departmentScores, ordinal) == 0) {
+                    topK.offer(documents[ordinal], positions.score(positionScores, ordinal));
+                }
+            });
+        }
+    }
+
+    private static int max(int[] scores) {
+        int max = 0;
+        if (scores != null) {
+            for (int score : scores) {
+                max = Math.max(max, score);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Score a document outside the snapshot (overlay)
+     */
+    static int score(SearchQuery query, SearchDocument document) {
+        int score = 0;
+        for (SearchField field : SearchField.values()) {
+            score = Math.max(score, query.score(SearchDocument.normalize(document.field(field)), field));
+        }
+        return score;
+    }
+
+    /**
+     * Feed every entry present in the postings of all keys to the consumer, driven by the shortest list
+     */
+    private static void intersect(Postings postings, int[] keys, IntConsumer consumer) {
+        int[] starts = new int[keys.length];
+        int[] ends = new int[keys.length];
+        int shortest = 0;
+        for (int g = 0; g < keys.length; g++) {
+            int k = Arrays.binarySearch(postings.keys(), keys[g]);
+            if (k < 0) {
+                return;
+            }
+            starts[g] = postings.offsets()[k];
+            ends[g] = postings.offsets()[k + 1];
+            if (ends[g] - starts[g] < ends[shortest] - starts[shortest]) {
+                shortest = g;
+            }
+        }
+
+        int[] list = postings.postings();
+        candidates:
+        for (int p = starts[shortest]; p < ends[shortest]; p++) {
+            int entry = list[p];
+            for (int g = 0; g < keys.length; g++) {
+                if (g == shortest) {
+                    continue;
+                }
+                int found = Arrays.binarySearch(list, starts[g], ends[g], entry);
+                if (found < 0) {
+                    starts[g] = -found - 1;
+                    if (starts[g] == ends[g]) {
+                        return;
+                    }
+                    continue candidates;
+                }
+                starts[g] = found + 1;
+            }
+            consumer.accept(entry);
+        }
+    }
+
+    /**
+     * Approximate retained size of a String: object and array headers plus payload
+     * (one byte per char when every char fits in Latin-1, two otherwise)
+     */
+    static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return 40L + 2L * value.length();
+            }
+        }
+        return 40L + value.length();
+    }
+
+    /**
+     * Sorted keys; the entries of keys[k] are postings[offsets[k] .. offsets[k + 1])
+     */
+    record Postings(int[] keys, int[] offsets, int[] postings) {
+
+        long bytes() {
+            return 4L * (keys.length + offsets.length + postings.length);
+        }
+    }
+
+    /**
+     * A low-cardinality field: grams point at distinct values, each value at its member documents
+     */
+    private static final class DictionaryField {
+
+        private final SearchField field;
+        private final String[] values;
+        private final int[] valueOf;
+        private final Postings grams;
+        private final Postings members;
+        private final long valueBytes;
+
+        DictionaryField(SearchField field, String[] values, int[] valueOf, Postings grams, Postings members,
+                        long valueBytes) {
+            this.field = field;
+            this.values = values;
+            this.valueOf = valueOf;
+            this.grams = grams;
+            this.members = members;
+            this.valueBytes = valueBytes;
+        }
+
+        /**
+         * Score per value ID for this query, or null if no value matches
+         */
+        int[] matchingScores(SearchQuery query) {
+            int[][] scores = new int[1][];
+            intersect(grams, query.grams(), valueId -> {
+                int score = query.score(values[valueId], field);
+                if (score > 0) {
+                    if (scores[0] == null) {
+                        scores[0] = new int[values.length];
+                    }
+                    scores[0][valueId] = score;
+                }
+            });
+            return scores[0];
+        }
+
+        int score(int[] scores, int ordinal) {
+            int valueId = valueOf[ordinal];
+            return scores == null || valueId < 0 ? 0 : scores[valueId];
+        }
+
+        /**
+         * Feed the members of every matching value to the consumer, best ranked first, until the
+         * rest of the value cannot enter {@code topK} with its score or {@code otherScore}
+         */
+        void forEachMember(int[] scores, int otherScore, SearchDocument[] documents, TopK topK,
+                           IntConsumer consumer) {
+            for (int valueId = 0; valueId < scores.length; valueId++) {
+                if (scores[valueId] > 0) {
+                    int bound = Math.max(scores[valueId], otherScore);
+                    int k = Arrays.binarySearch(members.keys(), valueId);
+                    for (int p = members.offsets()[k]; p < members.offsets()[k + 1]; p++) {
+                        int ordinal = members.postings()[p];
+                        if (!topK.admits(documents[ordinal], bound)) {
+                            break;
+                        }
+                        consumer.accept(ordinal);
+                    }
+                }
+            }
+        }
+
+        long bytes() {
+            return grams.bytes() + members.bytes() + 4L * valueOf.length + valueBytes;
+        }
+    }
+
+    private static final class DictionaryBuilder {
+
+        private final SearchField field;
+        private final Map<String, Integer> idByValue = new HashMap<>();
+        private final List<String> displayValues = new ArrayList<>();
+        private final int[] valueOf;
+        private final PostingsBuilder members = new PostingsBuilder();
+        private final Grams.KeyBuffer key = new Grams.KeyBuffer();
+
+        DictionaryBuilder(SearchField field, int size) {
+            this.field = field;
+            this.valueOf = new int[size];
+        }
+
+        /**
+         * Record the document's value; returns the instance shared by all documents with that value
+         */
+        String add(int ordinal, String value) {
+            if (value == null) {
+                valueOf[ordinal] = -1;
+                return null;
+            }
+            Integer id = idByValue.get(value);
+            if (id == null) {
+                id = displayValues.size();
+                idByValue.put(value, id);
+                displayValues.add(value);
+            }
+            valueOf[ordinal] = id;
+            key.clear();
+            key.add(id);
+            members.add(ordinal, key);
+            return displayValues.get(id);
+        }
+
+        DictionaryField build(SearchDocument[] documents) {
+            String[] values = new String[displayValues.size()];
+            PostingsBuilder grams = new PostingsBuilder();
+            Grams.KeyBuffer keys = new Grams.KeyBuffer();
+            long valueBytes = 0;
+            for (int id = 0; id < values.length; id++) {
+                String display = displayValues.get(id);
+                String normalized = SearchDocument.normalize(display);
+                values[id] = normalized.equals(display) ? display : normalized;
+                valueBytes += stringBytes(display) + (values[id] != display ? stringBytes(normalized) : 0);
+                keys.clear();
+                Grams.addFieldGrams(values[id], keys);
+                grams.add(id, keys);
+            }
+            Postings memberPostings = members.build();
+            rankMembers(memberPostings, documents);
+            return new DictionaryField(field, values, valueOf, grams.build(), memberPostings, valueBytes);
+        }
+
+        /**
+         * Reorder each member list by name length, then ordinal (user ID)
+         */
+        private static void rankMembers(Postings members, SearchDocument[] documents) {
+            int[] postings = members.postings();
+            int[] offsets = members.offsets();
+            for (int k = 0; k < members.keys().length; k++) {
+                long[] order = new long[offsets[k + 1] - offsets[k]];
+                for (int i = 0; i < order.length; i++) {
+                    int ordinal = postings[offsets[k] + i];
+                    order[i] = ((long) SearchHit.nameLength(documents[ordinal]) << 32) | ordinal;
+                }
+                Arrays.sort(order);
+                for (int i = 0; i < order.length; i++) {
+                    postings[offsets[k] + i] = (int) order[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Growable sorted int list, filled in ascending order
+     */
+    private static final class Ordinals {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+
+        boolean contains(int ordinal) {
+            return size > 0 && Arrays.binarySearch(values, 0, size, ordinal) >= 0;
+        }
+    }
+
+    /**
+     * Keeps the best {@code limit} hits
+     */
+    static final class TopK {
+
+        private final int limit;
+        private final PriorityQueue<SearchHit> worstFirst;
+
+        TopK(int limit) {
+            this.limit = limit;
+            this.worstFirst = new PriorityQueue<>(limit + 1, SearchHit.RANKING.reversed());
+        }
+
+        /**
+         * Whether a hit for the document with this score would be kept
+         */
+        boolean admits(SearchDocument document, int score) {
+            return worstFirst.size() < limit || SearchHit.outranks(document, score, worstFirst.peek());
+        }
+
+        void offer(SearchDocument document, int score) {
+            // Most candidates lose to the current worst hit; decide that before allocating one
+            if (!admits(document, score)) {
+                return;
+            }
+            worstFirst.add(new SearchHit(document, score));
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        }
+
+        List<SearchHit> result() {
+            List<SearchHit> hits = new ArrayList<>(worstFirst);
+            hits.sort(SearchHit.RANKING);
+            return hits;
+        }
+    }
+}
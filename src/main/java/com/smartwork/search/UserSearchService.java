@@ -0,0 +1,102 @@
+package com.smartwork.search;
+
+import com.smartwork.domain.User;
+import com.smartwork.dto.user.UserSearchResultDto;
+import com.smartwork.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory directory search over active users by name, department and position,
+ * including Hangul initial consonants (초성) and half-typed syllables.
+ *
+ * <p>Queries run against an immutable {@link UserSearchIndex} snapshot plus a small overlay of
+ * users changed since the snapshot; see {@link SnapshotIndexService} for how both are kept current.
+ */
+@Service
+public class UserSearchService extends SnapshotIndexService<UserSearchIndex, SearchDocument> {
+
+    private static final String REBUILD_SQL =
+        "SELECT user_id, username, employee_id, name, department, position " +
+        "FROM users WHERE status = 'ACTIVE' AND is_deleted = 0";
+
+    private final int maxResults;
+
+    public UserSearchService(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${search.enabled:true}") boolean enabled,
+            @Value("${search.max-overlay:2000}") int maxOverlay,
+            @Value("${search.max-results:50}") int maxResults,
+            @Value("${search.fetch-size:1000}") int fetchSize,
+            @Value("${search.memory-budget-mb:96}") long memoryBudgetMb) {
+
+        super("search", jdbcTemplate, userRepository, meterRegistry, enabled, maxOverlay, fetchSize, memoryBudgetMb);
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Best matches for the text, highest score first
+     */
+    public List<UserSearchResultDto> search(String text, int limit) {
+        Snapshot<UserSearchIndex, SearchDocument> current = snapshot();
+        SearchQuery query = SearchQuery.parse(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        UserSearchIndex.TopK topK = new UserSearchIndex.TopK(Math.min(Math.max(limit, 1), maxResults));
+        current.index().search(query, topK);
+        for (SearchDocument document : current.overlay().values()) {
+            int score = UserSearchIndex.score(query, document);
+            if (score > 0) {
+                topK.offer(document, score);
+            }
+        }
+        List<SearchHit> hits = topK.result();
+        recordQuery(start);
+
+        List<UserSearchResultDto> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            SearchDocument document = hit.document();
+            results.add(new UserSearchResultDto(document.userId(), document.username(), document.name(),
+                document.employeeId(), document.department(), document.position()));
+        }
+        return results;
+    }
+
+    @Scheduled(fixedDelayString = "${search.rebuild-interval-ms:3600000}",
+               initialDelayString = "${search.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    @Override
+    protected UserSearchIndex buildIndex() {
+        return UserSearchIndex.build(load(REBUILD_SQL, (resultSet, row) -> new SearchDocument(
+            resultSet.getLong("user_id"),
+            resultSet.getString("username"),
+            resultSet.getString("employee_id"),
+            resultSet.getString("name"),
+            resultSet.getString("department"),
+            resultSet.getString("position")), UserSearchIndex::estimatedDocumentBytes));
+    }
+
+    @Override
+    protected void apply(User user) {
+        if (!SearchDocument.isSearchable(user)) {
+            remove(user.getId());
+            return;
+        }
+        SearchDocument document = SearchDocument.from(user);
+        write(current -> current.put(document.userId(), document));
+    }
+}
@@ -0,0 +1,350 @@
+package com.smartwork.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Prefix index for typeahead over active users' username, employee ID and name.
+ *
+ * <p>Every key is packed into one char array in sorted order. Keys are the lower-case username
+ * and employee ID, the keystrokes of the name (so a half-typed last syllable still matches) and
+ * the name's initial consonants. The keys starting with a prefix therefore form one contiguous
+ * range found by binary search: the leaves of a trie without its nodes. A max-tree over the key
+ * positions yields the most recently logged-in users of any range in O(k log n), however many
+ * keys share the prefix.
+ *
+ * <p>Keys never change after the build. Login recency can only rise, in place through
+ * {@link #touch}, with writers serialized by the caller. Every tree slot always holds a position
+ * inside its own range, so a concurrent query may rank by a value that is a moment old but never
+ * returns a key outside the prefix.
+ */
+final class UserSuggestIndex implements SnapshotIndex {
+
+    static final UserSuggestIndex EMPTY = build(List.of());
+
+    private final long[] userIds;
+    private final SearchDocument[] documents;
+    private final int[] recency;
+    private final char[] keyChars;
+    private final int[] keyOffsets;
+    private final int[] keyDocument;
+    private final int[] documentKeys;
+    private final int[] documentKeyOffsets;
+    private final int[] tree;
+    private final int width;
+    private final AtomicLongArray superseded;
+    private final long estimatedBytes;
+
+    private UserSuggestIndex(long[] userIds, SearchDocument[] documents, int[] recency,
+                             char[] keyChars, int[] keyOffsets, int[] keyDocument,
+                             int[] documentKeys, int[] documentKeyOffsets, long stringBytes) {
+        this.userIds = userIds;
+        this.documents = documents;
+        this.recency = recency;
+        this.keyChars = keyChars;
+        this.keyOffsets = keyOffsets;
+        this.keyDocument = keyDocument;
+        this.documentKeys = documentKeys;
+        this.documentKeyOffsets = documentKeyOffsets;
+        this.width = keyDocument.length;
+        this.tree = new int[2 * width];
+        for (int position = 0; position < width; position++) {
+            tree[width + position] = position;
+        }
+        for (int node = width - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+        this.superseded = new AtomicLongArray((documents.length + 63) >>> 6);
+        this.estimatedBytes = 2L * keyChars.length
+            + 4L * (keyOffsets.length + keyDocument.length + documentKeys.length + documentKeyOffsets.length)
+            + 4L * tree.length
+            + 8L * userIds.length
+            + 8L * documents.length     // document reference and recency
+            + 48L * documents.length    // SearchDocument objects
+            + stringBytes;
+    }
+
+    /**
+     * Build an index; user IDs must be unique
+     */
+    static UserSuggestIndex build(Collection<Suggestion> source) {
+        Suggestion[] suggestions = source.toArray(new Suggestion[0]);
+        Arrays.sort(suggestions, Comparator.comparingLong(suggestion -> suggestion.document().userId()));
+
+        int size = suggestions.length;
+        long[] userIds = new long[size];
+        SearchDocument[] documents = new SearchDocument[size];
+        int[] recency = new int[size];
+        List<KeyEntry> keys = new ArrayList<>(size * 4);
+        long stringBytes = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            SearchDocument document = suggestions[ordinal].document();
+            userIds[ordinal] = document.userId();
+            documents[ordinal] = document;
+            recency[ordinal] = suggestions[ordinal].recency();
+            stringBytes += UserSearchIndex.stringBytes(document.username())
+                + UserSearchIndex.stringBytes(document.employeeId()) + UserSearchIndex.stringBytes(document.name());
+            for (String key : keysOf(document)) {
+                keys.add(new KeyEntry(key, ordinal));
+            }
+        }
+        keys.sort(Comparator.comparing(KeyEntry::key).thenComparingInt(KeyEntry::document));
+
+        int keyCount = keys.size();
+        int charCount = 0;
+        for (KeyEntry key : keys) {
+            charCount += key.key().length();
+        }
+        char[] keyChars = new char[charCount];
+        int[] keyOffsets = new int[keyCount + 1];
+        int[] keyDocument = new int[keyCount];
+        int[] documentKeyOffsets = new int[size + 1];
+        int position = 0;
+        for (int k = 0; k < keyCount; k++) {
+            KeyEntry key = keys.get(k);
+            key.key().getChars(0, key.key().length(), keyChars, position);
+            keyOffsets[k] = position;
+            position += key.key().length();
+            keyDocument[k] = key.document();
+            documentKeyOffsets[key.document() + 1]++;
+        }
+        keyOffsets[keyCount] = position;
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            documentKeyOffsets[ordinal + 1] += documentKeyOffsets[ordinal];
+        }
+        int[] documentKeys = new int[keyCount];
+        int[] fill = Arrays.copyOf(documentKeyOffsets, size);
+        for (int k = 0; k < keyCount; k++) {
+            documentKeys[fill[keyDocument[k]]++] = k;
+        }
+
+        return new UserSuggestIndex(userIds, documents, recency, keyChars, keyOffsets, keyDocument,
+            documentKeys, documentKeyOffsets, stringBytes);
+    }
+
+    /**
+     * Distinct keys of a document, in the form {@link #prefixOf} produces for queries
+     */
+    static List<String> keysOf(SearchDocument document) {
+        List<String> keys = new ArrayList<>(4);
+        addKey(keys, SearchDocument.normalize(document.username()));
+        addKey(keys, SearchDocument.normalize(document.employeeId()));
+        String name = SearchDocument.normalize(document.name());
+        if (name != null) {
+            addKey(keys, Hangul.toJamo(name));
+            StringBuilder chosung = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++) {
+                chosung.append(Hangul.chosung(name.charAt(i)));
+            }
+            addKey(keys, chosung.toString());
+        }
+        return keys;
+    }
+
+    /**
+     * Key prefix for the typed text, or null if nothing was typed
+     */
+    static String prefixOf(String text) {
+        String normalized = SearchDocument.normalize(text);
+        return normalized == null || normalized.isEmpty() ? null : Hangul.toJamo(normalized);
+    }
+
+    private static void addKey(List<String> keys, String key) {
+        if (key != null && !key.isEmpty() && !keys.contains(key)) {
+            keys.add(key);
+        }
+    }
+
+    /**
+     * What one document roughly adds to an index, without computing its keys, for checking the budget
+     * while documents are still being read: its share of the per-document arrays and object, its
+     * strings, and up to four keys of about the field lengths with their offsets and tree slots
+     */
+    static long estimatedDocumentBytes(SearchDocument document) {
+        long keyChars = length(document.username()) + length(document.employeeId()) + 2L * length(document.name());
+        return 64L + 4L * (3 * 4 + 2 * 4) + 2L * keyChars
+            + UserSearchIndex.stringBytes(document.username()) + UserSearchIndex.stringBytes(document.employeeId())
+            + UserSearchIndex.stringBytes(document.name());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    @Override
+    public int size() {
+        return documents.length;
+    }
+
+    @Override
+    public int keyCount() {
+        return width;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Recency of the user in this snapshot, or -1 if the user is not in it
+     */
+    int recencyOf(long userId) {
+        int ordinal = Arrays.binarySearch(userIds, userId);
+        return ordinal < 0 ? -1 : recency[ordinal];
+    }
+
+    /**
+     * Raise the user's recency and re-rank their keys; callers must not touch concurrently
+     */
+    void touch(long userId, int newRecency) {
+        int ordinal = Arrays.binarySearch(userIds, userId);
+        if (ordinal < 0 || newRecency <= recency[ordinal]) {
+            return;
+        }
+        recency[ordinal] = newRecency;
+        for (int i = documentKeyOffsets[ordinal]; i < documentKeyOffsets[ordinal + 1]; i++) {
+            for (int node = (width + documentKeys[i]) >>> 1; node > 0; node >>>= 1) {
+                tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+    }
+
+    /**
+     * Hide the user's snapshot document; a newer version (if any) lives in the overlay
+     */
+    @Override
+    public void supersede(long userId) {
+        int ordinal = Arrays.binarySearch(userIds, userId);
+        if (ordinal >= 0) {
+            int word = ordinal >>> 6;
+            long bit = 1L << ordinal;
+            long current;
+            do {
+                current = superseded.get(word);
+            } while ((current & bit) == 0 && !superseded.compareAndSet(word, current, current | bit));
+        }
+    }
+
+    private boolean isSuperseded(int ordinal) {
+        return (superseded.get(ordinal >>> 6) & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Append up to {@code limit} distinct users with a key starting with {@code prefix}, most recent first
+     */
+    void top(String prefix, int limit, List<Suggestion> out) {
+        int from = bound(prefix, false);
+        int to = bound(prefix, true);
+        if (from >= to) {
+            return;
+        }
+
+        // Each entry: {rank, position, range start, range end}; the best range maximum is popped next
+        PriorityQueue<long[]> ranges = new PriorityQueue<>(2 * limit + 1,
+            (a, b) -> Long.compare(b[0], a[0]));
+        offerRange(ranges, from, to);
+        int[] emitted = new int[limit];
+        int count = 0;
+        while (count < limit && !ranges.isEmpty()) {
+            long[] range = ranges.poll();
+            int position = (int) range[1];
+            int ordinal = keyDocument[position];
+            if (!isSuperseded(ordinal) && !contains(emitted, count, ordinal)) {
+                emitted[count++] = ordinal;
+                out.add(new Suggestion(documents[ordinal], recency[ordinal]));
+            }
+            offerRange(ranges, (int) range[2], position);
+            offerRange(ranges, position + 1, (int) range[3]);
+        }
+    }
+
+    private void offerRange(PriorityQueue<long[]> ranges, int from, int to) {
+        if (from < to) {
+            int position = best(from, to);
+            ranges.add(new long[]{rank(position), position, from, to});
+        }
+    }
+
+    /**
+     * Position with the highest rank in [from, to)
+     */
+    private int best(int from, int to) {
+        int best = -1;
+        for (int left = from + width, right = to + width; left < right; left >>>= 1, right >>>= 1) {
+            if ((left & 1) == 1) {
+                best = best < 0 ? tree[left] : better(best, tree[left]);
+                left++;
+            }
+            if ((right & 1) == 1) {
+                right--;
+                best = best < 0 ? tree[right] : better(best, tree[right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        return rank(a) >= rank(b) ? a : b;
+    }
+
+    /**
+     * Recency in the high half; ties go to the lower ordinal, i.e. the lower user ID
+     */
+    private long rank(int position) {
+        int ordinal = keyDocument[position];
+        return ((long) recency[ordinal] << 32) | (Integer.MAX_VALUE - ordinal);
+    }
+
+    /**
+     * First key position not below the prefix ({@code after = false}) or not starting with it ({@code after = true})
+     */
+    private int bound(String prefix, boolean after) {
+        int low = 0;
+        int high = width;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int compared = comparePrefix(middle, prefix);
+            if (compared < 0 || (after && compared == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compare the key, cut to the prefix length, with the prefix
+     */
+    private int comparePrefix(int position, String prefix) {
+        int start = keyOffsets[position];
+        int length = keyOffsets[position + 1] - start;
+        int common = Math.min(length, prefix.length());
+        for (int i = 0; i < common; i++) {
+            int difference = keyChars[start + i] - prefix.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length < prefix.length() ? -1 : 0;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record KeyEntry(String key, int document) {
+    }
+}
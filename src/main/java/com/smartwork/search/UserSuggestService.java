@@ -0,0 +1,166 @@
+package com.smartwork.search;
+
+import com.smartwork.domain.User;
+import com.smartwork.dto.user.UserSearchResultDto;
+import com.smartwork.event.UserLoggedInEvent;
+import com.smartwork.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * As-you-type suggestions of active users by username, name or employee ID prefix,
+ * most recently logged-in first.
+ *
+ * <p>An immutable {@link UserSuggestIndex} snapshot plus an overlay of users changed since, kept
+ * current as described in {@link SnapshotIndexService}. Logins on this node re-rank the user in
+ * place ({@link UserLoggedInEvent}); logins on other nodes are picked up by the next rebuild, which
+ * therefore runs more often than the search rebuild.
+ */
+@Service
+public class UserSuggestService extends SnapshotIndexService<UserSuggestIndex, UserSuggestService.OverlayEntry> {
+
+    private static final String REBUILD_SQL =
+        "SELECT user_id, username, employee_id, name, department, position, last_login_at " +
+        "FROM users WHERE status = 'ACTIVE' AND is_deleted = 0";
+
+    private final int maxResults;
+
+    public UserSuggestService(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${suggest.enabled:true}") boolean enabled,
+            @Value("${suggest.max-overlay:2000}") int maxOverlay,
+            @Value("${suggest.max-results:20}") int maxResults,
+            @Value("${suggest.fetch-size:1000}") int fetchSize,
+            @Value("${suggest.memory-budget-mb:96}") long memoryBudgetMb) {
+
+        super("suggest", jdbcTemplate, userRepository, meterRegistry, enabled, maxOverlay, fetchSize, memoryBudgetMb);
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Active users with a username, name or employee ID starting with the text, most recent login first
+     */
+    public List<UserSearchResultDto> suggest(String text, int limit) {
+        Snapshot<UserSuggestIndex, OverlayEntry> current = snapshot();
+        String prefix = UserSuggestIndex.prefixOf(text);
+        if (prefix == null) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        int size = Math.min(Math.max(limit, 1), maxResults);
+        List<Suggestion> suggestions = new ArrayList<>(size + 8);
+        current.index().top(prefix, size, suggestions);
+        for (OverlayEntry entry : current.overlay().values()) {
+            if (entry.matches(prefix)) {
+                suggestions.add(entry.suggestion());
+            }
+        }
+        suggestions.sort(Suggestion.RANKING);
+        if (suggestions.size() > size) {
+            suggestions = suggestions.subList(0, size);
+        }
+        recordQuery(start);
+
+        List<UserSearchResultDto> results = new ArrayList<>(suggestions.size());
+        for (Suggestion suggestion : suggestions) {
+            SearchDocument document = suggestion.document();
+            results.add(new UserSearchResultDto(document.userId(), document.username(), document.name(),
+                document.employeeId(), document.department(), document.position()));
+        }
+        return results;
+    }
+
+    /**
+     * Raise the user's recency in the overlay entry or, failing that, in the snapshot document
+     */
+    @TransactionalEventListener
+    public void onUserLoggedIn(UserLoggedInEvent event) {
+        long userId = event.userId();
+        int recency = Suggestion.recencyOf(event.loginAt());
+        write(current -> {
+            OverlayEntry entry = current.overlay().get(userId);
+            if (entry != null) {
+                current.overlay().put(userId, OverlayEntry.of(entry.suggestion().withRecency(recency)));
+            } else {
+                current.index().touch(userId, recency);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${suggest.rebuild-interval-ms:600000}",
+               initialDelayString = "${suggest.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    /**
+     * Department and position strings are shared per value
+     */
+    @Override
+    protected UserSuggestIndex buildIndex() {
+        Map<String, String> sharedValues = new HashMap<>();
+        return UserSuggestIndex.build(load(REBUILD_SQL, (resultSet, row) -> {
+            String department = resultSet.getString("department");
+            String position = resultSet.getString("position");
+            Timestamp lastLoginAt = resultSet.getTimestamp("last_login_at");
+            return new Suggestion(
+                new SearchDocument(
+                    resultSet.getLong("user_id"),
+                    resultSet.getString("username"),
+                    resultSet.getString("employee_id"),
+                    resultSet.getString("name"),
+                    department == null ? null : sharedValues.computeIfAbsent(department, value -> value),
+                    position == null ? null : sharedValues.computeIfAbsent(position, value -> value)),
+                Suggestion.recencyOf(lastLoginAt == null ? null : lastLoginAt.toLocalDateTime()));
+        }, suggestion -> UserSuggestIndex.estimatedDocumentBytes(suggestion.document())));
+    }
+
+    @Override
+    protected void apply(User user) {
+        long userId = user.getId();
+        if (!SearchDocument.isSearchable(user)) {
+            remove(userId);
+            return;
+        }
+        SearchDocument document = SearchDocument.from(user);
+        int recency = Suggestion.recencyOf(user.getLastLoginAt());
+        write(current -> {
+            // Never rank below a login this node has already seen
+            OverlayEntry previous = current.overlay().get(userId);
+            int known = previous != null ? previous.suggestion().recency() : current.index().recencyOf(userId);
+            current.put(userId, OverlayEntry.of(new Suggestion(document, Math.max(recency, known))));
+        });
+    }
+
+    /**
+     * Overlay suggestion with its keys computed once
+     */
+    record OverlayEntry(Suggestion suggestion, List<String> keys) {
+
+        static OverlayEntry of(Suggestion suggestion) {
+            return new OverlayEntry(suggestion, UserSuggestIndex.keysOf(suggestion.document()));
+        }
+
+        boolean matches(String prefix) {
+            for (String key : keys) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.smartwork.security.config;
 
+import com.smartwork.bulkhead.BulkheadFilter;
+import com.smartwork.concurrency.AdaptiveConcurrencyLimitFilter;
+import com.smartwork.jfr.JfrPasswordEncoder;
 import com.smartwork.security.filter.JwtAuthenticationFilter;
-import com.smartwork.security.jwt.JwtTokenProvider;
-import com.smartwork.security.service.UserDetailsServiceImpl;
+import com.smartwork.tracing.Tracer;
+import com.smartwork.tracing.TracingPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -30,8 +34,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AdaptiveConcurrencyLimitFilter concurrencyLimitFilter;
+    private final BulkheadFilter bulkheadFilter;
+    private final Tracer tracer;
 
     /**
      * Configure security filter chain
@@ -65,26 +71,56 @@ public class SecurityConfig {
 
                 // Admin endpoints
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                 // All other requests require authentication
                 .anyRequest().authenticated()
             )
 
             // JWT 필터 추가
-            .addFilterBefore(
-                new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService),
-                UsernamePasswordAuthenticationFilter.class
-            );
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+            // 트래픽 그룹(로그인/관리자 쓰기/조회)별 격리 - JWT 필터의 DB 조회도 그룹 커넥션 사용
+            .addFilterBefore(bulkheadFilter, JwtAuthenticationFilter.class)
+
+            // 과부하 시 벌크헤드/JWT 이전에 요청 차단 (adaptive concurrency limit)
+            // 순서: concurrency limit → bulkhead → JWT (같은 order 에 의존하지 않도록 명시)
+            .addFilterBefore(concurrencyLimitFilter, BulkheadFilter.class);
 
         return http.build();
     }
 
+    /**
+     * The JWT, concurrency-limit and bulkhead filters are beans (so they can be injected) but must only run
+     * inside the security chain, not a second time as plain servlet filters
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> concurrencyLimitFilterRegistration() {
+        FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilterRegistration() {
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(bulkheadFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * Password encoder bean
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TracingPasswordEncoder(new JfrPasswordEncoder(new BCryptPasswordEncoder()), tracer);
     }
 
     /**
@@ -112,7 +148,7 @@ public class SecurityConfig {
         configuration.setAllowCredentials(true);
 
         // 노출할 헤더
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "ETag", "Last-Modified", "X-Trace-Id", "Retry-After"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -1,7 +1,10 @@
 package com.smartwork.security.filter;
 
+import com.smartwork.exception.BusinessException;
 import com.smartwork.security.jwt.JwtTokenProvider;
 import com.smartwork.security.service.UserDetailsServiceImpl;
+import com.smartwork.tracing.SpanScope;
+import com.smartwork.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,12 +28,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final Tracer tracer;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        try {
+        try (SpanScope span = tracer.startSpan(Tracer.LAYER_SECURITY, "JwtAuthenticationFilter")) {
             String jwt = extractJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
@@ -45,6 +49,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 log.debug("Set authentication for user: {}", username);
             }
+        } catch (BusinessException e) {
+            // Expected outcomes (expired/invalid token, unknown or locked user); request continues unauthenticated
+            log.debug("Could not set user authentication: {}", e.getMessage());
         } catch (Exception e) {
             log.error("Could not set user authentication: {}", e.getMessage());
         }
@@ -2,6 +2,7 @@ package com.smartwork.security.jwt;
 
 import com.smartwork.exception.BusinessException;
 import com.smartwork.exception.ErrorCode;
+import com.smartwork.jfr.TokenValidationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -90,21 +91,34 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        String outcome = "valid";
         try {
             parseClaims(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
+            outcome = "invalid";
+            log.debug("Invalid JWT token: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_TOKEN, e);
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token: {}", e.getMessage());
+            outcome = "expired";
+            log.debug("Expired JWT token: {}", e.getMessage());
             throw new BusinessException(ErrorCode.TOKEN_EXPIRED, e);
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token: {}", e.getMessage());
+            outcome = "unsupported";
+            log.debug("Unsupported JWT token: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_TOKEN, e);
         } catch (IllegalArgumentException e) {
-            log.error("JWT claims string is empty: {}", e.getMessage());
+            outcome = "empty";
+            log.debug("JWT claims string is empty: {}", e.getMessage());
             throw new BusinessException(ErrorCode.INVALID_TOKEN, e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.commit();
+            }
         }
     }
 
@@ -3,6 +3,7 @@ package com.smartwork.security.service;
 import com.smartwork.domain.User;
 import com.smartwork.exception.BusinessException;
 import com.smartwork.exception.ErrorCode;
+import com.smartwork.jfr.UserDetailsLookupEvent;
 import com.smartwork.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -25,26 +26,45 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        UserDetailsLookupEvent event = new UserDetailsLookupEvent();
+        event.begin();
+        String outcome = "error";
+        int authorityCount = 0;
+        try {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (user.isLocked()) {
-            throw new BusinessException(ErrorCode.ACCOUNT_LOCKED);
-        }
+            if (user.isLocked()) {
+                outcome = "locked";
+                throw new BusinessException(ErrorCode.ACCOUNT_LOCKED);
+            }
 
-        if (!user.isActive()) {
-            throw new BusinessException(ErrorCode.ACCOUNT_DISABLED);
-        }
+            if (!user.isActive()) {
+                outcome = "disabled";
+                throw new BusinessException(ErrorCode.ACCOUNT_DISABLED);
+            }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                true,
-                true,
-                true,
-                !user.isLocked(),
-                getAuthorities(user)
-        );
+            Collection<? extends GrantedAuthority> authorities = getAuthorities(user);
+            authorityCount = authorities.size();
+            outcome = "found";
+
+            return new org.springframework.security.core.userdetails.User(
+                    user.getUsername(),
+                    user.getPassword(),
+                    true,
+                    true,
+                    true,
+                    !user.isLocked(),
+                    authorities
+            );
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.authorities = authorityCount;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
     }
 
     private Collection<? extends GrantedAuthority> getAuthorities(User user) {
@@ -0,0 +1,93 @@
+package com.smartwork.service;
+
+import com.smartwork.audit.SecurityAuditorAware;
+import com.smartwork.audit.TransactionClock;
+import com.smartwork.domain.User;
+import com.smartwork.event.UserChangedEvent;
+import com.smartwork.repository.UserRepository;
+import com.smartwork.scheduling.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Unlocks accounts whose lock has expired.
+ *
+ * <p>Reads only treat an expired lock as unlocked ({@code User#isLocked()}); this job writes the
+ * change back with one set-based UPDATE per run, capped at the batch size. Only the node holding
+ * the {@value #LEASE_NAME} lease runs it.
+ */
+@Slf4j
+@Service
+public class AccountUnlockService {
+
+    static final String LEASE_NAME = "account-unlock";
+
+    private final UserRepository userRepository;
+    private final SchedulerLease schedulerLease;
+    private final TransactionClock transactionClock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration leaseTtl;
+
+    public AccountUnlockService(
+            UserRepository userRepository,
+            SchedulerLease schedulerLease,
+            TransactionClock transactionClock,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.unlock.enabled:true}") boolean enabled,
+            @Value("${account.unlock.batch-size:500}") int batchSize,
+            @Value("${account.unlock.lease-ttl-seconds:300}") long leaseTtlSeconds) {
+
+        this.userRepository = userRepository;
+        this.schedulerLease = schedulerLease;
+        this.transactionClock = transactionClock;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${account.unlock.interval-ms:60000}")
+    public void unlockExpiredAccounts() {
+        if (!enabled || !schedulerLease.tryAcquire(LEASE_NAME, leaseTtl)) {
+            return;
+        }
+
+        Integer unlocked = transactionTemplate.execute(status -> unlockBatch());
+        if (unlocked != null && unlocked > 0) {
+            log.info("Expired account locks cleared: unlocked={}", unlocked);
+        }
+    }
+
+    private int unlockBatch() {
+        LocalDateTime now = transactionClock.now();
+        List<Long> userIds = userRepository.findExpiredLockIds(now, PageRequest.of(0, batchSize));
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        int unlocked = userRepository.unlockExpiredByIds(userIds, now, SecurityAuditorAware.SYSTEM_AUDITOR);
+        if (unlocked > 0) {
+            // The UPDATE skips accounts locked again since the SELECT; they must not be announced as unlocked
+            List<User> active = userRepository.findAllById(userIds).stream()
+                .filter(user -> user.getStatus() == User.UserStatus.ACTIVE)
+                .toList();
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.ChangeType.STATUS_CHANGED, active));
+        }
+        return unlocked;
+    }
+}
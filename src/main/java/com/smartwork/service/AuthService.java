@@ -7,13 +7,14 @@ import com.smartwork.dto.user.UserCreateRequest;
 import com.smartwork.dto.user.UserDto;
 import com.smartwork.exception.BusinessException;
 import com.smartwork.exception.ErrorCode;
-import com.smartwork.repository.UserRepository;
+import com.smartwork.mapper.UserMapper;
 import com.smartwork.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -25,20 +26,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AuthService {
 
-    private final UserRepository userRepository;
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserMapper userMapper;
+    private final LoginAttemptService loginAttemptService;
 
     /**
-     * User login
+     * User login.
+     * Runs without a surrounding transaction so no connection is held during password hashing:
+     * the lookup and the outcome are each their own short transaction in {@link LoginAttemptService}.
+     * A repository call made directly in this scope would keep its connection until login returns,
+     * and recording the outcome would then need a second one.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        log.info("Login attempt: username={}", request.getUsername());
+        if (log.isDebugEnabled()) {
+            log.debug("Login attempt: username={}", request.getUsername());
+        }
 
         // Find user
-        User user = userRepository.findByUsernameWithRoles(request.getUsername())
+        User user = loginAttemptService.findForLogin(request.getUsername())
             .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
 
         // Check if account is locked
@@ -57,14 +65,17 @@ public class AuthService {
         // Verify password
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             log.warn("Login failed - invalid password: username={}", request.getUsername());
-            user.incrementFailedAttempts();
-            userRepository.save(user);
+            if (!loginAttemptService.recordFailure(user)) {
+                throw new BusinessException(ErrorCode.ACCOUNT_LOCKED);
+            }
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
 
         // Update last login time
-        user.updateLastLogin();
-        userRepository.save(user);
+        if (!loginAttemptService.recordSuccess(user)) {
+            log.warn("Login failed - account locked concurrently: username={}", request.getUsername());
+            throw new BusinessException(ErrorCode.ACCOUNT_LOCKED);
+        }
 
         // Generate JWT token
         String token = jwtTokenProvider.generateToken(user.getUsername());
@@ -72,7 +83,7 @@ public class AuthService {
 
         log.info("Login successful: username={}", request.getUsername());
 
-        return LoginResponse.of(token, expiresIn, UserDto.fromEntity(user));
+        return LoginResponse.of(token, expiresIn, userMapper.toDto(user));
     }
 
     /**
@@ -80,7 +91,9 @@ public class AuthService {
      */
     @Transactional
     public UserDto register(UserCreateRequest request) {
-        log.info("Registration attempt: username={}", request.getUsername());
+        if (log.isDebugEnabled()) {
+            log.debug("Registration attempt: username={}", request.getUsername());
+        }
         return userService.createUser(request);
     }
 }
@@ -0,0 +1,196 @@
+package com.smartwork.service;
+
+import com.smartwork.cache.InvalidationListener;
+import com.smartwork.cache.InvalidationMessage;
+import com.smartwork.cache.UserInvalidationPublisher;
+import com.smartwork.domain.User;
+import com.smartwork.dto.user.DepartmentMemberDto;
+import com.smartwork.event.UserChangedEvent;
+import com.smartwork.mapper.UserMapper;
+import com.smartwork.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory department → active-user index.
+ *
+ * <p>Kept consistent incrementally from {@link UserChangedEvent}s after commit and
+ * fully reconciled against the database on a fixed schedule. Members are ordered by
+ * user ID so pages stay stable while the roster changes. Changes made on other nodes
+ * arrive through the {@link com.smartwork.cache.CacheInvalidationBus}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepartmentRosterService implements InvalidationListener {
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+
+    private final Object writeLock = new Object();
+
+    private volatile Map<String, NavigableMap<Long, DepartmentMemberDto>> rosters = new ConcurrentHashMap<>();
+    private volatile Map<Long, String> departmentByUserId = new ConcurrentHashMap<>();
+
+    /**
+     * Changes applied while a reconcile is reading the database; replayed onto the new index before swap
+     */
+    private Map<Long, User> pendingDuringReconcile;
+
+    /**
+     * Get active members of a department ordered by user ID
+     */
+    public Page<DepartmentMemberDto> getMembers(String department, Pageable pageable) {
+        NavigableMap<Long, DepartmentMemberDto> members = rosters.get(department);
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (members == null || members.isEmpty()) {
+            return new PageImpl<>(List.of(), pageRequest, 0);
+        }
+
+        long offset = pageRequest.getOffset();
+        List<DepartmentMemberDto> content = new ArrayList<>(pageRequest.getPageSize());
+        Iterator<DepartmentMemberDto> iterator = members.values().iterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (content.size() < pageRequest.getPageSize() && iterator.hasNext()) {
+            content.add(iterator.next());
+        }
+        return new PageImpl<>(content, pageRequest, members.size());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.PASSWORD_CHANGED) {
+            return;
+        }
+        synchronized (writeLock) {
+            for (User user : event.users()) {
+                apply(rosters, departmentByUserId, user);
+                if (pendingDuringReconcile != null) {
+                    pendingDuringReconcile.put(user.getId(), user);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reload users changed on another node
+     */
+    @Override
+    public void invalidate(List<InvalidationMessage.Entry> entries) {
+        Set<Long> userIds = new HashSet<>();
+        for (InvalidationMessage.Entry entry : entries) {
+            if (UserInvalidationPublisher.USER.equals(entry.entityType())) {
+                userIds.add(entry.id());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<User> users = userRepository.findAllById(userIds);
+        synchronized (writeLock) {
+            for (User user : users) {
+                userIds.remove(user.getId());
+                apply(rosters, departmentByUserId, user);
+                if (pendingDuringReconcile != null) {
+                    pendingDuringReconcile.put(user.getId(), user);
+                }
+            }
+            // Not found: deleted (hidden by @SQLRestriction)
+            for (Long userId : userIds) {
+                remove(rosters, departmentByUserId, userId);
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        reconcile();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Rebuild the whole index from the database and swap it in atomically
+     */
+    @Scheduled(fixedDelayString = "${roster.reconcile-interval-ms:300000}",
+               initialDelayString = "${roster.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (writeLock) {
+            pendingDuringReconcile = new HashMap<>();
+        }
+
+        Map<String, NavigableMap<Long, DepartmentMemberDto>> newRosters = new ConcurrentHashMap<>();
+        Map<Long, String> newDepartmentByUserId = new ConcurrentHashMap<>();
+        try {
+            for (User user : userRepository.findAllActiveUsers()) {
+                apply(newRosters, newDepartmentByUserId, user);
+            }
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringReconcile = null;
+            }
+            log.error("Department roster reconcile failed: {}", e.getMessage());
+            throw e;
+        }
+
+        synchronized (writeLock) {
+            pendingDuringReconcile.values()
+                .forEach(user -> apply(newRosters, newDepartmentByUserId, user));
+            pendingDuringReconcile = null;
+            rosters = newRosters;
+            departmentByUserId = newDepartmentByUserId;
+        }
+        log.info("Department roster reconciled: departments={}, members={}",
+            newRosters.size(), newDepartmentByUserId.size());
+    }
+
+    private void apply(Map<String, NavigableMap<Long, DepartmentMemberDto>> rosters,
+                              Map<Long, String> departmentByUserId,
+                              User user) {
+        Long userId = user.getId();
+        remove(rosters, departmentByUserId, userId);
+
+        if (isRosterMember(user)) {
+            rosters.computeIfAbsent(user.getDepartment(), department -> new ConcurrentSkipListMap<>())
+                .put(userId, userMapper.toDepartmentMember(user));
+            departmentByUserId.put(userId, user.getDepartment());
+        }
+    }
+
+    private static void remove(Map<String, NavigableMap<Long, DepartmentMemberDto>> rosters,
+                               Map<Long, String> departmentByUserId,
+                               Long userId) {
+        String previousDepartment = departmentByUserId.remove(userId);
+        if (previousDepartment != null) {
+            NavigableMap<Long, DepartmentMemberDto> previous = rosters.get(previousDepartment);
+            if (previous != null) {
+                previous.remove(userId);
+            }
+        }
+    }
+
+    private static boolean isRosterMember(User user) {
+        return user.getDepartment() != null
+            && user.getStatus() == User.UserStatus.ACTIVE
+            && !Boolean.TRUE.equals(user.getIsDeleted());
+    }
+}
@@ -0,0 +1,120 @@
+package com.smartwork.service;
+
+import com.smartwork.audit.SecurityAuditorAware;
+import com.smartwork.audit.TransactionClock;
+import com.smartwork.domain.User;
+import com.smartwork.event.UserChangedEvent;
+import com.smartwork.event.UserLoggedInEvent;
+import com.smartwork.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records login outcomes with single conditional UPDATE statements instead of load-modify-save.
+ *
+ * <p>The row lock taken by each UPDATE serializes concurrent attempts on one account, so no
+ * failed attempt is lost and the account locks on exactly the configured attempt. Failures below
+ * the threshold cost one UPDATE; the account is only read when an attempt may have locked it.
+ */
+@Slf4j
+@Service
+public class LoginAttemptService {
+
+    private final UserRepository userRepository;
+    private final TransactionClock transactionClock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxFailedAttempts;
+    private final Duration lockDuration;
+
+    public LoginAttemptService(
+            UserRepository userRepository,
+            TransactionClock transactionClock,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${auth.lockout.max-failed-attempts:5}") int maxFailedAttempts,
+            @Value("${auth.lockout.duration-minutes:60}") long lockDurationMinutes) {
+
+        this.userRepository = userRepository;
+        this.transactionClock = transactionClock;
+        this.eventPublisher = eventPublisher;
+        this.maxFailedAttempts = maxFailedAttempts;
+        this.lockDuration = Duration.ofMinutes(lockDurationMinutes);
+    }
+
+    /**
+     * Load the user with roles for a login attempt in its own read-only transaction, so the connection
+     * is back in the pool before the password is hashed and before an outcome is recorded
+     */
+    @Transactional(readOnly = true)
+    public Optional<User> findForLogin(String username) {
+        return userRepository.findByUsernameWithRoles(username);
+    }
+
+    /**
+     * Count a failed login for the user; locks the account when this attempt reaches the threshold
+     *
+     * @return false if the account was already locked or no longer active, so the attempt was not counted
+     */
+    @Transactional
+    public boolean recordFailure(User user) {
+        LocalDateTime now = transactionClock.now();
+        // An expired lock starts a fresh count
+        boolean unlocked = user.isLockExpired()
+            && userRepository.unlockExpiredByIds(List.of(user.getId()), now, SecurityAuditorAware.SYSTEM_AUDITOR) > 0;
+
+        // Below the threshold only the count changes; the row is read back only when this attempt
+        // may have locked the account or an expired lock was cleared, to publish the status change
+        boolean belowThreshold = userRepository.incrementFailedAttemptsBelowThreshold(
+            user.getId(), maxFailedAttempts, now, SecurityAuditorAware.SYSTEM_AUDITOR) > 0;
+        if (!belowThreshold && userRepository.incrementFailedAttempts(
+                user.getId(), maxFailedAttempts, now.plus(lockDuration), now, SecurityAuditorAware.SYSTEM_AUDITOR) == 0) {
+            return false;
+        }
+        if (belowThreshold && !unlocked) {
+            return true;
+        }
+
+        userRepository.findById(user.getId())
+            .filter(current -> unlocked || current.getStatus() == User.UserStatus.LOCKED)
+            .ifPresent(current -> {
+                if (current.getStatus() == User.UserStatus.LOCKED) {
+                    log.warn("Account locked after {} failed logins: username={}",
+                        maxFailedAttempts, current.getUsername());
+                }
+                eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.STATUS_CHANGED, current));
+            });
+        return true;
+    }
+
+    /**
+     * Record a successful login and reset the failure count; also clears an expired lock.
+     * The given user is updated in memory to match.
+     *
+     * @return false if the account was locked by a concurrent attempt
+     */
+    @Transactional
+    public boolean recordSuccess(User user) {
+        LocalDateTime now = transactionClock.now();
+        if (userRepository.recordSuccessfulLogin(user.getId(), now, SecurityAuditorAware.SYSTEM_AUDITOR) == 0) {
+            return false;
+        }
+
+        boolean lockExpired = user.isLockExpired();
+        if (lockExpired) {
+            user.unlock();
+        }
+        user.updateLastLogin(now);
+        if (lockExpired) {
+            eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.STATUS_CHANGED, user));
+        }
+        eventPublisher.publishEvent(new UserLoggedInEvent(user.getId(), now));
+        return true;
+    }
+}
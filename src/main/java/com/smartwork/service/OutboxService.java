@@ -0,0 +1,108 @@
+package com.smartwork.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartwork.audit.TransactionClock;
+import com.smartwork.domain.OutboxEvent;
+import com.smartwork.domain.User;
+import com.smartwork.dto.outbox.ChangeEventDto;
+import com.smartwork.dto.outbox.ChangeFeedResponse;
+import com.smartwork.dto.outbox.UserChangePayload;
+import com.smartwork.event.UserChangedEvent;
+import com.smartwork.exception.BusinessException;
+import com.smartwork.exception.ErrorCode;
+import com.smartwork.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for the transactional outbox and the incremental change feed.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class OutboxService {
+
+    public static final String USER_AGGREGATE = "User";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionClock transactionClock;
+    private final int maxFeedSize;
+
+    public OutboxService(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            TransactionClock transactionClock,
+            @Value("${outbox.feed.max-size:500}") int maxFeedSize) {
+
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionClock = transactionClock;
+        this.maxFeedSize = maxFeedSize;
+    }
+
+    /**
+     * Record user changes in the caller's transaction.
+     * Runs synchronously so the outbox row commits or rolls back together with the change.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onUserChanged(UserChangedEvent event) {
+        LocalDateTime now = transactionClock.now();
+        List<OutboxEvent> records = new ArrayList<>(event.users().size());
+        for (User user : event.users()) {
+            records.add(OutboxEvent.builder()
+                .aggregateType(USER_AGGREGATE)
+                .aggregateId(user.getId())
+                .eventType("USER_" + event.type().name())
+                .payload(toJson(UserChangePayload.fromEntity(user)))
+                .createdAt(now)
+                .build());
+        }
+        outboxEventRepository.saveAll(records);
+    }
+
+    /**
+     * Get published user changes after the given feed sequence number
+     */
+    public ChangeFeedResponse getUserChanges(long since, int limit) {
+        int size = Math.min(Math.max(limit, 1), maxFeedSize);
+
+        // Fetch one extra row to tell whether another page exists
+        List<OutboxEvent> events = outboxEventRepository.findChanges(
+            USER_AGGREGATE, since, PageRequest.of(0, size + 1));
+        boolean hasMore = events.size() > size;
+        if (hasMore) {
+            events = events.subList(0, size);
+        }
+
+        List<ChangeEventDto> changes = events.stream()
+            .map(ChangeEventDto::fromEntity)
+            .toList();
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+
+        return ChangeFeedResponse.builder()
+            .events(changes)
+            .nextSince(nextSince)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.smartwork.service;
+
+import com.smartwork.scheduling.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves long soft-deleted users out of the hot {@code users} table into {@code users_archive}.
+ *
+ * <p>Runs in fixed-size batches, each in its own transaction, so undo/redo per commit and
+ * row-lock time stay bounded. Uses plain JDBC because soft-deleted rows are invisible to Hibernate.
+ * Only the node holding the {@value #LEASE_NAME} lease runs it.
+ */
+@Slf4j
+@Service
+public class UserArchiveService {
+
+    static final String LEASE_NAME = "user-archive";
+
+    private static final String USER_COLUMNS =
+        "user_id, username, password, email, employee_id, name, department, position, phone, status, " +
+        "last_login_at, failed_login_attempts, locked_until, created_at, created_by, updated_at, updated_by, version";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLease schedulerLease;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int batchSize;
+    private final Duration leaseTtl;
+
+    public UserArchiveService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            SchedulerLease schedulerLease,
+            @Value("${archive.users.enabled:true}") boolean enabled,
+            @Value("${archive.users.retention-days:90}") int retentionDays,
+            @Value("${archive.users.batch-size:500}") int batchSize,
+            @Value("${archive.users.lease-ttl-seconds:3600}") long leaseTtlSeconds) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerLease = schedulerLease;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    }
+
+    /**
+     * Archive users deleted more than the retention period ago
+     */
+    @Scheduled(cron = "${archive.users.cron:0 30 3 * * *}")
+    public void archiveDeletedUsers() {
+        if (!enabled || !schedulerLease.tryAcquire(LEASE_NAME, leaseTtl)) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        log.info("Archiving users deleted before {}", cutoff);
+
+        int total = 0;
+        int archived;
+        do {
+            archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += archived;
+        } while (archived == batchSize);
+
+        log.info("User archive completed: archived={}", total);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("cutoff", Timestamp.valueOf(cutoff))
+            .addValue("batchSize", batchSize);
+
+        // Matches idx_user_deleted_at, which only contains deleted rows
+        List<Long> userIds = jdbcTemplate.queryForList(
+            "SELECT user_id FROM users " +
+            "WHERE (CASE WHEN is_deleted = 1 THEN updated_at END) < :cutoff " +
+            "ORDER BY user_id FETCH FIRST :batchSize ROWS ONLY",
+            params, Long.class);
+
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource idParams = new MapSqlParameterSource("userIds", userIds);
+        jdbcTemplate.update(
+            "INSERT INTO users_archive (" + USER_COLUMNS + ") " +
+            "SELECT " + USER_COLUMNS + " FROM users WHERE user_id IN (:userIds)",
+            idParams);
+        jdbcTemplate.update("DELETE FROM user_roles WHERE user_id IN (:userIds)", idParams);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id IN (:userIds)", idParams);
+
+        log.debug("Archived user batch: size={}", userIds.size());
+        return userIds.size();
+    }
+}
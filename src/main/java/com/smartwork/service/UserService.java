@@ -1,18 +1,29 @@
 package com.smartwork.service;
 
+import com.smartwork.audit.SecurityAuditorAware;
+import com.smartwork.audit.TransactionClock;
 import com.smartwork.domain.User;
+import com.smartwork.domain.UserSummary;
 import com.smartwork.dto.user.*;
+import com.smartwork.event.UserChangedEvent;
 import com.smartwork.exception.BusinessException;
 import com.smartwork.exception.ErrorCode;
+import com.smartwork.mapper.UserMapper;
 import com.smartwork.repository.UserRepository;
+import com.smartwork.repository.UserSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Service for user management business logic.
  */
@@ -23,14 +34,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserSummaryRepository userSummaryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionClock transactionClock;
+    private final UserMapper userMapper;
 
     /**
      * Create a new user
      */
     @Transactional
     public UserDto createUser(UserCreateRequest request) {
-        log.info("Creating new user: {}", request.getUsername());
+        if (log.isDebugEnabled()) {
+            log.debug("Creating new user: {}", request.getUsername());
+        }
 
         // Check duplicates
         validateUniqueConstraints(request.getUsername(), request.getEmail(), request.getEmployeeId());
@@ -51,8 +68,9 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         log.info("User created successfully: id={}, username={}", savedUser.getId(), savedUser.getUsername());
+        eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.CREATED, savedUser));
 
-        return UserDto.fromEntity(savedUser);
+        return userMapper.toDto(savedUser);
     }
 
     /**
@@ -61,7 +79,7 @@ public class UserService {
     public UserDto getUserById(Long id) {
         log.debug("Finding user by id: {}", id);
         User user = findUserById(id);
-        return UserDto.fromEntity(user);
+        return userMapper.toDto(user);
     }
 
     /**
@@ -71,27 +89,48 @@ public class UserService {
         log.debug("Finding user by username: {}", username);
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return UserDto.fromEntity(user);
+        return userMapper.toDto(user);
+    }
+
+    /**
+     * Get version metadata by user ID without loading the entity
+     */
+    public UserVersionView getUserVersion(Long id) {
+        return userRepository.findVersionById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
     /**
-     * Get all users with pagination
+     * Get version metadata by username without loading the entity
+     */
+    public UserVersionView getUserVersionByUsername(String username) {
+        return userRepository.findVersionByUsername(username)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * Get all users with pagination.
+     * Reads the immutable {@link UserSummary} view, so the page is not snapshotted or dirty-checked.
      */
     public Page<UserDto> getAllUsers(Pageable pageable) {
-        log.debug("Finding all users with pagination: page={}, size={}",
-            pageable.getPageNumber(), pageable.getPageSize());
-        return userRepository.findAll(pageable)
-            .map(UserDto::fromEntity);
+        if (log.isDebugEnabled()) {
+            log.debug("Finding all users with pagination: page={}, size={}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        }
+        Page<UserSummary> users = userSummaryRepository.findAll(pageable);
+        return new PageImpl<>(userMapper.summariesToDtos(users.getContent()), users.getPageable(), users.getTotalElements());
     }
 
     /**
-     * Update user information
+     * Update user information.
+     * Only non-null fields are applied; with dynamic updates Hibernate writes just the changed columns.
      */
     @Transactional
     public UserDto updateUser(Long id, UserUpdateRequest request) {
-        log.info("Updating user: id={}", id);
+        log.debug("Updating user: id={}", id);
 
         User user = findUserById(id);
+        verifyVersion(user, request.getVersion());
 
         // Check email uniqueness if changed
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
@@ -123,10 +162,12 @@ public class UserService {
             user.setPhone(request.getPhone());
         }
 
-        User updatedUser = userRepository.save(user);
-        log.info("User updated successfully: id={}", updatedUser.getId());
+        // Managed entity: flush instead of save() to skip the merge and surface version conflicts here
+        userRepository.flush();
+        log.info("User updated successfully: id={}", user.getId());
+        eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.UPDATED, user));
 
-        return UserDto.fromEntity(updatedUser);
+        return userMapper.toDto(user);
     }
 
     /**
@@ -134,7 +175,7 @@ public class UserService {
      */
     @Transactional
     public void changePassword(Long id, UserPasswordChangeRequest request) {
-        log.info("Changing password for user: id={}", id);
+        log.debug("Changing password for user: id={}", id);
 
         // Validate password confirmation
         if (!request.getNewPassword().equals(request.getConfirmPassword())) {
@@ -150,9 +191,10 @@ public class UserService {
 
         // Update password
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
-        userRepository.save(user);
+        userRepository.flush();
 
         log.info("Password changed successfully for user: id={}", id);
+        eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.PASSWORD_CHANGED, user));
     }
 
     /**
@@ -160,14 +202,15 @@ public class UserService {
      */
     @Transactional
     public void deleteUser(Long id) {
-        log.info("Deleting user: id={}", id);
+        log.debug("Deleting user: id={}", id);
 
         User user = findUserById(id);
         user.setIsDeleted(true);
         user.setStatus(User.UserStatus.RESIGNED);
-        userRepository.save(user);
+        userRepository.flush();
 
         log.info("User deleted successfully: id={}", id);
+        eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.DELETED, user));
     }
 
     /**
@@ -175,7 +218,7 @@ public class UserService {
      */
     @Transactional
     public UserDto updateUserStatus(Long id, User.UserStatus status) {
-        log.info("Updating user status: id={}, status={}", id, status);
+        log.debug("Updating user status: id={}, status={}", id, status);
 
         User user = findUserById(id);
         user.setStatus(status);
@@ -185,10 +228,36 @@ public class UserService {
             user.unlock();
         }
 
-        User updatedUser = userRepository.save(user);
-        log.info("User status updated successfully: id={}", updatedUser.getId());
+        userRepository.flush();
+        log.info("User status updated successfully: id={}", user.getId());
+        eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.STATUS_CHANGED, user));
+
+        return userMapper.toDto(user);
+    }
+
+    /**
+     * Update the status of many users with a single UPDATE statement
+     */
+    @Transactional
+    public int updateUserStatusBulk(List<Long> userIds, User.UserStatus status) {
+        if (log.isDebugEnabled()) {
+            log.debug("Updating user status in bulk: count={}, status={}", userIds.size(), status);
+        }
+
+        // Bulk statements bypass entity listeners, so set audit columns explicitly
+        LocalDateTime now = transactionClock.now();
+        String auditor = SecurityAuditorAware.currentAuditor();
+        int updated = status == User.UserStatus.ACTIVE
+            ? userRepository.activateByIds(userIds, now, auditor)
+            : userRepository.updateStatusByIds(userIds, status, now, auditor);
 
-        return UserDto.fromEntity(updatedUser);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UserChangedEvent(
+                UserChangedEvent.ChangeType.STATUS_CHANGED, userRepository.findAllById(userIds)));
+        }
+        log.info("User status updated in bulk: requested={}, updated={}", userIds.size(), updated);
+
+        return updated;
     }
 
     /**
@@ -220,6 +289,15 @@ public class UserService {
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * Reject the write when the client's expected version is stale
+     */
+    private void verifyVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+
     /**
      * Validate unique constraints for username, email, and employee ID
      */
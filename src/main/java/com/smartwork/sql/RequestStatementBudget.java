@@ -0,0 +1,57 @@
+package com.smartwork.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statement counts for the request being handled on this thread.
+ */
+final class RequestStatementBudget {
+
+    private static final ThreadLocal<RequestStatementBudget> CURRENT = new ThreadLocal<>();
+
+    final String endpoint;
+    final int budget;
+    final int maxRepeats;
+    final Map<String, Integer> repeats = new HashMap<>();
+    int statements;
+    String violation;
+
+    private RequestStatementBudget(String endpoint, int budget, int maxRepeats) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+        this.maxRepeats = maxRepeats;
+    }
+
+    static void start(String endpoint, int budget, int maxRepeats) {
+        CURRENT.set(new RequestStatementBudget(endpoint, budget, maxRepeats));
+    }
+
+    static RequestStatementBudget current() {
+        return CURRENT.get();
+    }
+
+    static RequestStatementBudget finish() {
+        RequestStatementBudget budget = CURRENT.get();
+        CURRENT.remove();
+        return budget;
+    }
+
+    /**
+     * Count a statement; returns a violation message the first time a limit is crossed, otherwise {@code null}
+     */
+    String record(String fingerprint) {
+        statements++;
+        int count = repeats.merge(fingerprint, 1, Integer::sum);
+        if (violation != null) {
+            return null;
+        }
+        if (count > maxRepeats) {
+            violation = String.format("%s repeated the same statement %d times (max %d), likely N+1: %s",
+                endpoint, count, maxRepeats, fingerprint);
+        } else if (statements > budget) {
+            violation = String.format("%s executed %d statements (budget %d)", endpoint, statements, budget);
+        }
+        return violation;
+    }
+}
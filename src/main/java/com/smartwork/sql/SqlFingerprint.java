@@ -0,0 +1,97 @@
+package com.smartwork.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes SQL into a fingerprint: literals become {@code ?}, whitespace is collapsed and
+ * IN lists of any length become {@code (?...)}, so statements that differ only in values group together.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    /**
+     * Hibernate emits a small, fixed set of statement strings, so fingerprints are memoized
+     */
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(sql, fingerprint);
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !out.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i);
+                out.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierChar(out)) {
+                while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+            }
+        }
+        return IN_LIST.matcher(out).replaceAll("(?...)");
+    }
+
+    /**
+     * @return index of the closing quote ({@code ''} is an escaped quote)
+     */
+    private static int skipStringLiteral(String sql, int openQuote) {
+        int i = openQuote + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A digit right after a letter, digit or underscore belongs to an identifier such as {@code u1_0}
+     */
+    private static boolean isIdentifierChar(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
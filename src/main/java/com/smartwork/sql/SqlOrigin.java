@@ -0,0 +1,38 @@
+package com.smartwork.sql;
+
+/**
+ * The repository method currently executing on this thread, e.g. {@code UserRepository.findByUsernameWithRoles}.
+ * Set by {@code SqlOriginAspect}; statements issued outside a repository call (flush at commit,
+ * JdbcTemplate jobs) have no origin.
+ */
+public final class SqlOrigin {
+
+    public static final String UNATTRIBUTED = "(flush/jdbc)";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private SqlOrigin() {
+    }
+
+    public static String current() {
+        String origin = CURRENT.get();
+        return origin != null ? origin : UNATTRIBUTED;
+    }
+
+    /**
+     * @return the previous origin, to be passed back to {@link #restore}
+     */
+    public static String enter(String origin) {
+        String previous = CURRENT.get();
+        CURRENT.set(origin);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.smartwork.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-fingerprint JDBC statistics: executions, total/max time, rows and the issuing repository method.
+ *
+ * <p>Counters are {@link LongAdder}/{@link LongAccumulator}, so recording never takes a lock.
+ * Rows are counted from {@code ResultSet.next()} and attributed to the last statement executed on
+ * the same thread, which matches how Hibernate reads results. DML rows are the update counts.
+ */
+@Component
+public class SqlStatistics implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "sqlstats.startNanos";
+    private static final String OTHER = "(other)";
+
+    private final ConcurrentMap<String, Stat> stats = new ConcurrentHashMap<>();
+    private final ThreadLocal<Stat> lastQuery = new ThreadLocal<>();
+    private final boolean enabled;
+    private final int maxFingerprints;
+
+    public SqlStatistics(
+            @Value("${sql-stats.enabled:true}") boolean enabled,
+            @Value("${sql-stats.max-fingerprints:500}") int maxFingerprints) {
+
+        this.enabled = enabled;
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (enabled) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (startNanos == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+
+        Stat stat = statFor(SqlFingerprint.of(queryInfoList.get(0).getQuery()));
+        stat.record(elapsed, SqlOrigin.current(), execInfo.isSuccess());
+        stat.rows.add(updateCount(execInfo.getResult()));
+        lastQuery.set(stat);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            Stat stat = lastQuery.get();
+            if (stat != null) {
+                stat.rows.increment();
+            }
+        }
+    }
+
+    /**
+     * Top fingerprints, highest first
+     *
+     * @param orderBy totalTime (default), count, maxTime or rows
+     */
+    public List<Map<String, Object>> top(int limit, String orderBy) {
+        Comparator<Map.Entry<String, Stat>> comparator = switch (orderBy == null ? "totalTime" : orderBy) {
+            case "count" -> Comparator.comparingLong(entry -> entry.getValue().count.sum());
+            case "maxTime" -> Comparator.comparingLong(entry -> entry.getValue().maxNanos.get());
+            case "rows" -> Comparator.comparingLong(entry -> entry.getValue().rows.sum());
+            default -> Comparator.comparingLong(entry -> entry.getValue().totalNanos.sum());
+        };
+
+        List<Map.Entry<String, Stat>> entries = new ArrayList<>(stats.entrySet());
+        entries.sort(comparator.reversed());
+
+        List<Map<String, Object>> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (Map.Entry<String, Stat> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            result.add(entry.getValue().toMap(entry.getKey()));
+        }
+        return result;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private Stat statFor(String fingerprint) {
+        Stat stat = stats.get(fingerprint);
+        if (stat != null) {
+            return stat;
+        }
+        // Bound memory if something generates unbounded distinct statements
+        String key = stats.size() < maxFingerprints ? fingerprint : OTHER;
+        return stats.computeIfAbsent(key, k -> new Stat());
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return 0;
+    }
+
+    private static final class Stat {
+
+        private static final int MAX_ORIGINS = 16;
+
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder rows = new LongAdder();
+        final ConcurrentMap<String, LongAdder> origins = new ConcurrentHashMap<>();
+
+        void record(long elapsedNanos, String origin, boolean success) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            if (!success) {
+                errors.increment();
+            }
+            LongAdder originCount = origins.get(origin);
+            if (originCount == null && origins.size() < MAX_ORIGINS) {
+                originCount = origins.computeIfAbsent(origin, o -> new LongAdder());
+            }
+            if (originCount != null) {
+                originCount.increment();
+            }
+        }
+
+        Map<String, Object> toMap(String fingerprint) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+
+            Map<String, Long> originCounts = new LinkedHashMap<>();
+            origins.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum)).reversed())
+                .forEach(entry -> originCounts.put(entry.getKey(), entry.getValue().sum()));
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("fingerprint", fingerprint);
+            map.put("count", executions);
+            map.put("totalMs", total / 1_000_000.0);
+            map.put("avgMs", executions == 0 ? 0 : total / 1_000_000.0 / executions);
+            map.put("maxMs", maxNanos.get() / 1_000_000.0);
+            map.put("rows", rows.sum());
+            map.put("avgRows", executions == 0 ? 0 : (double) rows.sum() / executions);
+            map.put("errors", errors.sum());
+            map.put("origins", originCounts);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.smartwork.sql;
+
+/**
+ * Thrown in {@code FAIL} mode when a request exceeds its statement budget or repeats a statement shape too often.
+ */
+public class StatementBudgetExceededException extends IllegalStateException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
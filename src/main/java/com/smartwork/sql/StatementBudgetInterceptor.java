@@ -0,0 +1,47 @@
+package com.smartwork.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Opens a statement budget for each controller method and reports violations when the request completes.
+ * Everything up to {@code afterCompletion} is counted, including lazy loads during response serialization.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.getMode() != StatementBudgetProperties.Mode.OFF && handler instanceof HandlerMethod method) {
+            String endpoint = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+            RequestStatementBudget.start(endpoint, properties.budgetFor(endpoint), properties.getMaxRepeats());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStatementBudget budget = RequestStatementBudget.finish();
+        if (budget == null) {
+            return;
+        }
+        if (budget.violation != null) {
+            log.warn("SQL statement budget exceeded: {} (total statements={})", budget.violation, budget.statements);
+            meterRegistry.counter("sql.budget.violations", "endpoint", budget.endpoint).increment();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("SQL statements for {}: {}", budget.endpoint, budget.statements);
+        }
+    }
+}
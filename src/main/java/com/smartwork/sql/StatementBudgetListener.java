@@ -0,0 +1,36 @@
+package com.smartwork.sql;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Counts statements against the current request's budget before they run,
+ * so in {@code FAIL} mode the offending statement is never executed.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetListener implements QueryExecutionListener {
+
+    private final StatementBudgetProperties properties;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestStatementBudget budget = RequestStatementBudget.current();
+        if (budget == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        String violation = budget.record(SqlFingerprint.of(queryInfoList.get(0).getQuery()));
+        if (violation != null && properties.getMode() == StatementBudgetProperties.Mode.FAIL) {
+            throw new StatementBudgetExceededException(violation);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.smartwork.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request JDBC statement budgets ({@code sql-budget.*}).
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sql-budget")
+public class StatementBudgetProperties {
+
+    public enum Mode {
+        /** Not tracked */
+        OFF,
+        /** Log a warning and count a violation metric */
+        WARN,
+        /** Abort the statement that exceeds the budget (tests) */
+        FAIL
+    }
+
+    private Mode mode = Mode.WARN;
+
+    /**
+     * Maximum statements per request for endpoints without an explicit budget
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * Maximum executions of the same statement shape in one request (N+1 signal)
+     */
+    private int maxRepeats = 5;
+
+    /**
+     * Budgets keyed by handler, e.g. {@code UserController.getAllUsers: 3}
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
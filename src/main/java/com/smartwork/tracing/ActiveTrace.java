@@ -0,0 +1,77 @@
+package com.smartwork.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable per-request trace state. Confined to the request thread.
+ */
+final class ActiveTrace {
+
+    final String traceId;
+    final String rootSpanId;
+    final long startNanos;
+    final long startEpochNanos;
+    private final int maxSpans;
+    private final List<Span> spans = new ArrayList<>();
+    private String currentSpanId;
+    private int droppedSpans;
+
+    ActiveTrace(String traceId, String rootSpanId, long startNanos, long startEpochNanos, int maxSpans) {
+        this.traceId = traceId;
+        this.rootSpanId = rootSpanId;
+        this.startNanos = startNanos;
+        this.startEpochNanos = startEpochNanos;
+        this.maxSpans = maxSpans;
+        this.currentSpanId = rootSpanId;
+    }
+
+    SpanScope startSpan(String spanId, long nowNanos) {
+        SpanScope scope = new SpanScope(this, spanId, currentSpanId, nowNanos);
+        currentSpanId = spanId;
+        return scope;
+    }
+
+    void endSpan(String spanId, String parentSpanId, String layer, String name,
+                 long spanStartNanos, String error) {
+        currentSpanId = parentSpanId;
+        add(spanId, parentSpanId, layer, name, spanStartNanos, System.nanoTime() - spanStartNanos, error, Map.of());
+    }
+
+    /**
+     * Record a span that already finished (e.g. a JDBC statement timed by the driver proxy)
+     */
+    void addCompleted(String spanId, String layer, String name, long durationNanos, Map<String, String> attributes) {
+        long start = System.nanoTime() - durationNanos;
+        add(spanId, currentSpanId, layer, name, start, durationNanos, null, attributes);
+    }
+
+    private void add(String spanId, String parentSpanId, String layer, String name,
+                     long spanStartNanos, long durationNanos, String error, Map<String, String> attributes) {
+        if (spans.size() >= maxSpans) {
+            droppedSpans++;
+            return;
+        }
+        long startEpoch = startEpochNanos + (spanStartNanos - startNanos);
+        spans.add(new Span(spanId, parentSpanId, layer, name, startEpoch, durationNanos, error, attributes));
+    }
+
+    TraceRecord finish(String name, Map<String, String> attributes, boolean error) {
+        long duration = System.nanoTime() - startNanos;
+        List<Span> all = new ArrayList<>(spans.size() + 1);
+        all.add(new Span(rootSpanId, null, Tracer.LAYER_HTTP, name, startEpochNanos, duration,
+            error ? "error" : null, attributes));
+        all.addAll(spans);
+        return new TraceRecord(traceId, name, startEpochNanos, duration, error || hasError(), List.copyOf(all), droppedSpans);
+    }
+
+    private boolean hasError() {
+        for (Span span : spans) {
+            if (span.error() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartwork.tracing;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every JDBC statement as a span on the current trace (datasource-proxy listener).
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcTracingListener implements QueryExecutionListener {
+
+    private static final int MAX_SQL_LENGTH = 300;
+
+    private final Tracer tracer;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!tracer.isTracing() || queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = queryInfoList.get(0).getQuery();
+        Map<String, String> attributes = Map.of(
+            "db.statement", sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) : sql,
+            "db.batch_size", Integer.toString(Math.max(execInfo.getBatchSize(), queryInfoList.size())),
+            "db.success", Boolean.toString(execInfo.isSuccess()));
+        tracer.recordSpan(Tracer.LAYER_JDBC, operation(sql),
+            TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()), attributes);
+    }
+
+    private static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = trimmed.indexOf(' ');
+        return (end > 0 ? trimmed.substring(0, end) : trimmed).toUpperCase();
+    }
+}
@@ -0,0 +1,153 @@
+package com.smartwork.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional exporter that ships kept traces to an OpenTelemetry collector (OTLP/HTTP, JSON encoding).
+ *
+ * <p>Enabled by setting {@code tracing.otlp.endpoint} (e.g. {@code http://otel-collector:4318}).
+ * Traces are queued on the request thread and posted in batches by the scheduler;
+ * when the queue is full they are dropped and counted.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("!'${tracing.otlp.endpoint:}'.isEmpty()")
+public class OtlpHttpTraceExporter implements TraceExporter {
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_SERVER = 2;
+    private static final int SPAN_KIND_CLIENT = 3;
+    private static final int STATUS_ERROR = 2;
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final String serviceName;
+    private final BlockingQueue<TraceRecord> queue;
+    private final int batchSize;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public OtlpHttpTraceExporter(
+            ObjectMapper objectMapper,
+            @Value("${tracing.otlp.endpoint}") String endpoint,
+            @Value("${spring.application.name:smartwork}") String serviceName,
+            @Value("${tracing.otlp.queue-capacity:2000}") int queueCapacity,
+            @Value("${tracing.otlp.batch-size:100}") int batchSize) {
+
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        this.endpoint = URI.create(endpoint.replaceAll("/+$", "") + "/v1/traces");
+        this.serviceName = serviceName;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void export(TraceRecord trace) {
+        if (!queue.offer(trace)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tracing.otlp.flush-interval-ms:5000}")
+    public void flush() {
+        List<TraceRecord> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            send(batch);
+            batch.clear();
+        }
+        long droppedCount = dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            log.warn("OTLP exporter queue full, dropped {} traces", droppedCount);
+        }
+    }
+
+    private void send(List<TraceRecord> traces) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(toOtlp(traces))))
+                .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                log.warn("OTLP export rejected: status={}, traces={}", response.statusCode(), traces.size());
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("OTLP export serialization failed: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("OTLP export failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> toOtlp(List<TraceRecord> traces) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (TraceRecord trace : traces) {
+            for (Span span : trace.spans()) {
+                spans.add(toOtlp(trace.traceId(), span));
+            }
+        }
+        return Map.of("resourceSpans", List.of(Map.of(
+            "resource", Map.of("attributes", List.of(attribute("service.name", serviceName))),
+            "scopeSpans", List.of(Map.of(
+                "scope", Map.of("name", "com.smartwork.tracing"),
+                "spans", spans)))));
+    }
+
+    private static Map<String, Object> toOtlp(String traceId, Span span) {
+        Map<String, Object> otlp = new LinkedHashMap<>();
+        otlp.put("traceId", traceId);
+        otlp.put("spanId", span.spanId());
+        if (span.parentSpanId() != null) {
+            otlp.put("parentSpanId", span.parentSpanId());
+        }
+        otlp.put("name", span.name());
+        otlp.put("kind", kind(span.layer()));
+        otlp.put("startTimeUnixNano", Long.toString(span.startEpochNanos()));
+        otlp.put("endTimeUnixNano", Long.toString(span.startEpochNanos() + span.durationNanos()));
+
+        List<Map<String, Object>> attributes = new ArrayList<>();
+        attributes.add(attribute("smartwork.layer", span.layer()));
+        span.attributes().forEach((key, value) -> attributes.add(attribute(key, value)));
+        otlp.put("attributes", attributes);
+
+        if (span.error() != null) {
+            otlp.put("status", Map.of("code", STATUS_ERROR, "message", span.error()));
+        }
+        return otlp;
+    }
+
+    private static int kind(String layer) {
+        return switch (layer) {
+            case Tracer.LAYER_HTTP -> SPAN_KIND_SERVER;
+            case Tracer.LAYER_JDBC -> SPAN_KIND_CLIENT;
+            default -> SPAN_KIND_INTERNAL;
+        };
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        return Map.of("key", key, "value", Map.of("stringValue", value));
+    }
+}
@@ -0,0 +1,25 @@
+package com.smartwork.tracing;
+
+import java.util.Map;
+
+/**
+ * A finished span: one timed unit of work inside a trace.
+ *
+ * @param layer  HTTP, SECURITY, CONTROLLER, SERVICE, REPOSITORY or JDBC
+ * @param error  exception class name when the span ended exceptionally, otherwise {@code null}
+ */
+public record Span(
+    String spanId,
+    String parentSpanId,
+    String layer,
+    String name,
+    long startEpochNanos,
+    long durationNanos,
+    String error,
+    Map<String, String> attributes
+) {
+
+    public long durationMicros() {
+        return durationNanos / 1_000;
+    }
+}
@@ -0,0 +1,46 @@
+package com.smartwork.tracing;
+
+/**
+ * Handle for an open span; closing it records the span on the current trace.
+ * Use with try-with-resources.
+ */
+public final class SpanScope implements AutoCloseable {
+
+    static final SpanScope NOOP = new SpanScope(null, null, null, 0);
+
+    private final ActiveTrace trace;
+    private final String spanId;
+    private final String previousSpanId;
+    private final long startNanos;
+    private String layer;
+    private String name;
+    private String error;
+
+    SpanScope(ActiveTrace trace, String spanId, String previousSpanId, long startNanos) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.previousSpanId = previousSpanId;
+        this.startNanos = startNanos;
+    }
+
+    SpanScope named(String layer, String name) {
+        this.layer = layer;
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Mark the span as failed
+     */
+    public void error(Throwable throwable) {
+        this.error = throwable.getClass().getSimpleName();
+    }
+
+    @Override
+    public void close() {
+        if (trace == null) {
+            return;
+        }
+        trace.endSpan(spanId, previousSpanId, layer, name, startNanos, error);
+    }
+}
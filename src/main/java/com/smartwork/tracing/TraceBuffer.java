@@ -0,0 +1,53 @@
+package com.smartwork.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded ring buffer of recent kept traces. Writers never block; the oldest trace is overwritten.
+ */
+@Component
+public class TraceBuffer {
+
+    private final AtomicReferenceArray<TraceRecord> slots;
+    private final AtomicLong writeIndex = new AtomicLong();
+
+    public TraceBuffer(@Value("${tracing.buffer-size:200}") int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(TraceRecord trace) {
+        long index = writeIndex.getAndIncrement();
+        slots.set((int) (index % slots.length()), trace);
+    }
+
+    /**
+     * Most recent traces first
+     */
+    public List<TraceRecord> recent(int limit, long minDurationMillis) {
+        List<TraceRecord> result = new ArrayList<>(Math.min(limit, slots.length()));
+        long newest = writeIndex.get() - 1;
+        for (long i = newest; i >= 0 && i > newest - slots.length() && result.size() < limit; i--) {
+            TraceRecord trace = slots.get((int) (i % slots.length()));
+            if (trace != null && trace.durationMillis() >= minDurationMillis) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+
+    public TraceRecord find(String traceId) {
+        for (int i = 0; i < slots.length(); i++) {
+            TraceRecord trace = slots.get(i);
+            if (trace != null && trace.traceId().equals(traceId)) {
+                return trace;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.smartwork.tracing;
+
+/**
+ * Receives sampled traces after the request finishes.
+ * Called on the request thread, so implementations must only enqueue.
+ */
+public interface TraceExporter {
+
+    void export(TraceRecord trace);
+}
@@ -0,0 +1,23 @@
+package com.smartwork.tracing;
+
+import java.util.List;
+
+/**
+ * A finished request trace. The first span is the root (HTTP) span.
+ *
+ * @param droppedSpans spans not recorded because the per-trace span limit was reached
+ */
+public record TraceRecord(
+    String traceId,
+    String name,
+    long startEpochNanos,
+    long durationNanos,
+    boolean error,
+    List<Span> spans,
+    int droppedSpans
+) {
+
+    public long durationMillis() {
+        return durationNanos / 1_000_000;
+    }
+}
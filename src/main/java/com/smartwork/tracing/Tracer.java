@@ -0,0 +1,137 @@
+package com.smartwork.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lightweight in-process tracer.
+ *
+ * <p>A trace is bound to the request thread by {@link TracingFilter}; layers open spans with
+ * {@link #startSpan}. Spans are always recorded (it is a list append), and the keep/drop
+ * decision is made when the request ends: a trace is kept if it was head-sampled, slower than
+ * the slow threshold, or failed. Kept traces go to the {@link TraceBuffer} and any exporters.
+ */
+@Slf4j
+@Component
+public class Tracer {
+
+    public static final String LAYER_HTTP = "HTTP";
+    public static final String LAYER_SECURITY = "SECURITY";
+    public static final String LAYER_JDBC = "JDBC";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ThreadLocal<ActiveTrace> current = new ThreadLocal<>();
+    private final TraceBuffer buffer;
+    private final List<TraceExporter> exporters;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxSpansPerTrace;
+
+    public Tracer(
+            TraceBuffer buffer,
+            List<TraceExporter> exporters,
+            @Value("${tracing.enabled:true}") boolean enabled,
+            @Value("${tracing.sample-rate:0.1}") double sampleRate,
+            @Value("${tracing.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${tracing.max-spans-per-trace:256}") int maxSpansPerTrace) {
+
+        this.buffer = buffer;
+        this.exporters = exporters;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+    }
+
+    /**
+     * Bind a new trace to the current thread.
+     *
+     * @param traceId incoming trace ID (32 hex chars) or {@code null} to generate one
+     * @return the trace ID in use
+     */
+    public String startTrace(String traceId) {
+        String id = traceId != null ? traceId : newTraceId();
+        if (enabled) {
+            current.set(new ActiveTrace(id, newSpanId(), System.nanoTime(), epochNanos(), maxSpansPerTrace));
+        }
+        return id;
+    }
+
+    /**
+     * Unbind the current trace and keep it if it is sampled, slow or failed
+     */
+    public void endTrace(String name, Map<String, String> attributes, boolean error) {
+        ActiveTrace trace = current.get();
+        if (trace == null) {
+            return;
+        }
+        current.remove();
+
+        TraceRecord record = trace.finish(name, attributes, error);
+        if (!shouldKeep(record)) {
+            return;
+        }
+        buffer.add(record);
+        for (TraceExporter exporter : exporters) {
+            try {
+                exporter.export(record);
+            } catch (RuntimeException e) {
+                log.debug("Trace export failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Open a child span of the current span; a no-op when no trace is active
+     */
+    public SpanScope startSpan(String layer, String name) {
+        ActiveTrace trace = current.get();
+        if (trace == null) {
+            return SpanScope.NOOP;
+        }
+        return trace.startSpan(newSpanId(), System.nanoTime()).named(layer, name);
+    }
+
+    /**
+     * Record a span that has just finished and was timed elsewhere
+     */
+    public void recordSpan(String layer, String name, long durationNanos, Map<String, String> attributes) {
+        ActiveTrace trace = current.get();
+        if (trace != null) {
+            trace.addCompleted(newSpanId(), layer, name, durationNanos, attributes);
+        }
+    }
+
+    public boolean isTracing() {
+        return current.get() != null;
+    }
+
+    private boolean shouldKeep(TraceRecord record) {
+        return record.error()
+            || record.durationNanos() >= slowThresholdNanos
+            || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong());
+    }
+
+    private static String newSpanId() {
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
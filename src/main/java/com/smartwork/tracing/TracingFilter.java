@@ -0,0 +1,83 @@
+package com.smartwork.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the request trace before any other filter (including Spring Security).
+ *
+ * <p>Accepts an incoming W3C {@code traceparent} or {@code X-Trace-Id}, puts the trace ID in
+ * the MDC as {@code traceId} and returns it in the {@code X-Trace-Id} response header.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String MDC_TRACE_ID = "traceId";
+
+    private static final Pattern TRACE_ID = Pattern.compile("[0-9a-f]{32}");
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String traceId = tracer.startTrace(incomingTraceId(request));
+        MDC.put(MDC_TRACE_ID, traceId);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+
+        boolean error = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = true;
+            throw e;
+        } finally {
+            error |= response.getStatus() >= 500;
+            tracer.endTrace(spanName(request), Map.of(
+                "http.method", request.getMethod(),
+                "http.target", request.getRequestURI(),
+                "http.status_code", Integer.toString(response.getStatus())), error);
+            MDC.remove(MDC_TRACE_ID);
+        }
+    }
+
+    /**
+     * Name traces by route pattern ({@code GET /api/users/{id}}) so they group by endpoint
+     */
+    private static String spanName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static String incomingTraceId(HttpServletRequest request) {
+        String traceparent = request.getHeader("traceparent");
+        if (traceparent != null && traceparent.length() >= 35) {
+            String candidate = traceparent.substring(3, 35);
+            if (TRACE_ID.matcher(candidate).matches()) {
+                return candidate;
+            }
+        }
+        String header = request.getHeader(TRACE_ID_HEADER);
+        if (header != null && TRACE_ID.matcher(header).matches()) {
+            return header;
+        }
+        return null;
+    }
+}
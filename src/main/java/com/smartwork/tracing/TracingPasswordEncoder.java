@@ -0,0 +1,33 @@
+package com.smartwork.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Times password hashing (BCrypt is deliberately slow) as SECURITY spans.
+ */
+@RequiredArgsConstructor
+public class TracingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Tracer tracer;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        try (SpanScope span = tracer.startSpan(Tracer.LAYER_SECURITY, "PasswordEncoder.encode")) {
+            return delegate.encode(rawPassword);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try (SpanScope span = tracer.startSpan(Tracer.LAYER_SECURITY, "PasswordEncoder.matches")) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,2 @@
+-- Optimistic locking version for users (User.version)
+ALTER TABLE users ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
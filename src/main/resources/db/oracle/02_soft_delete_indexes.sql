@@ -0,0 +1,60 @@
+-- Soft-delete aware indexes.
+-- Every query now carries "is_deleted = 0" (BaseEntity.NOT_DELETED), so lookup indexes
+-- lead with the search key and include is_deleted; uniqueness is enforced on live rows only.
+
+-- 1. Replace single-column lookup indexes with (key, is_deleted) composites
+DROP INDEX idx_user_username;
+DROP INDEX idx_user_email;
+DROP INDEX idx_user_employee_id;
+
+CREATE INDEX idx_user_username ON users(username, is_deleted);
+CREATE INDEX idx_user_email ON users(email, is_deleted);
+CREATE INDEX idx_user_employee_id ON users(employee_id, is_deleted);
+CREATE INDEX idx_user_department_status ON users(department, status, is_deleted);
+
+-- 2. Drop column-level UNIQUE constraints so a deleted user's username/email can be reused
+BEGIN
+    FOR c IN (
+        SELECT uc.constraint_name
+          FROM user_constraints uc
+          JOIN user_cons_columns ucc ON ucc.constraint_name = uc.constraint_name
+         WHERE uc.table_name = 'USERS'
+           AND uc.constraint_type = 'U'
+           AND ucc.column_name IN ('USERNAME', 'EMAIL', 'EMPLOYEE_ID')
+    ) LOOP
+        EXECUTE IMMEDIATE 'ALTER TABLE users DROP CONSTRAINT ' || c.constraint_name || ' DROP INDEX';
+    END LOOP;
+END;
+/
+
+-- 3. Function-based unique indexes that only contain live rows
+--    (Oracle does not index all-NULL keys, so deleted rows are left out entirely)
+CREATE UNIQUE INDEX ux_user_username_live ON users(CASE WHEN is_deleted = 0 THEN username END);
+CREATE UNIQUE INDEX ux_user_email_live ON users(CASE WHEN is_deleted = 0 THEN email END);
+CREATE UNIQUE INDEX ux_user_employee_id_live ON users(CASE WHEN is_deleted = 0 THEN employee_id END);
+
+-- 4. Archive table for long-deleted users (UserArchiveService)
+CREATE TABLE users_archive (
+    user_id NUMBER(19) PRIMARY KEY,
+    username VARCHAR2(50) NOT NULL,
+    password VARCHAR2(255) NOT NULL,
+    email VARCHAR2(100) NOT NULL,
+    employee_id VARCHAR2(20),
+    name VARCHAR2(50) NOT NULL,
+    department VARCHAR2(50),
+    position VARCHAR2(50),
+    phone VARCHAR2(20),
+    status VARCHAR2(20) NOT NULL,
+    last_login_at TIMESTAMP,
+    failed_login_attempts NUMBER(10),
+    locked_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    created_by VARCHAR2(50),
+    updated_at TIMESTAMP,
+    updated_by VARCHAR2(50),
+    version NUMBER(19),
+    archived_at TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL
+);
+
+-- Archive job scans deleted rows by age; only deleted rows are indexed
+CREATE INDEX idx_user_deleted_at ON users(CASE WHEN is_deleted = 1 THEN updated_at END);
@@ -0,0 +1,15 @@
+-- Append-only field-level change log (audit.change-log.enabled=true)
+CREATE SEQUENCE AUDIT_CHANGE_LOG_SEQ START WITH 1 INCREMENT BY 1 CACHE 100;
+
+CREATE TABLE audit_change_log (
+    change_id NUMBER(19) PRIMARY KEY,
+    entity_type VARCHAR2(100) NOT NULL,
+    entity_id VARCHAR2(50) NOT NULL,
+    field_name VARCHAR2(100) NOT NULL,
+    old_value VARCHAR2(1000),
+    new_value VARCHAR2(1000),
+    changed_by VARCHAR2(50),
+    changed_at TIMESTAMP
+);
+
+CREATE INDEX idx_audit_change_entity ON audit_change_log(entity_type, entity_id);
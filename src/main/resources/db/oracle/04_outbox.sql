@@ -0,0 +1,14 @@
+-- Transactional outbox for user change events (OutboxService / OutboxRelay)
+CREATE SEQUENCE OUTBOX_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+CREATE TABLE outbox_events (
+    outbox_id NUMBER(19) PRIMARY KEY,
+    aggregate_type VARCHAR2(50) NOT NULL,
+    aggregate_id NUMBER(19) NOT NULL,
+    event_type VARCHAR2(50) NOT NULL,
+    payload VARCHAR2(4000) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP
+);
+
+CREATE INDEX idx_outbox_published ON outbox_events(published_at, outbox_id);
@@ -0,0 +1,11 @@
+-- Cache invalidation messages between nodes (cache.invalidation.transport=jdbc, JdbcInvalidationTransport)
+CREATE SEQUENCE CACHE_INVALIDATION_SEQ START WITH 1 INCREMENT BY 1 CACHE 100;
+
+CREATE TABLE cache_invalidation (
+    message_id NUMBER(19) PRIMARY KEY,
+    origin VARCHAR2(100) NOT NULL,
+    payload CLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL      -- UTC database time: SYS_EXTRACT_UTC(SYSTIMESTAMP)
+);
+
+CREATE INDEX idx_cache_invalidation_created ON cache_invalidation(created_at);
@@ -0,0 +1,6 @@
+-- Leader leases for cluster-wide scheduled jobs (SchedulerLease)
+CREATE TABLE scheduler_lease (
+    lease_name VARCHAR2(100) PRIMARY KEY,
+    owner VARCHAR2(100) NOT NULL,
+    expires_at TIMESTAMP NOT NULL      -- UTC: SYS_EXTRACT_UTC(SYSTIMESTAMP) + ttl
+);
@@ -0,0 +1,21 @@
+-- Commit-ordered change feed position (OutboxRelay / OutboxService)
+-- outbox_id is taken at insert time, so a transaction that commits late could appear behind a
+-- consumer's cursor. The leased relay assigns feed_seq when it publishes, i.e. only to committed
+-- rows and in increasing order, and the feed pages by feed_seq instead.
+ALTER TABLE outbox_events ADD feed_seq NUMBER(19);
+
+-- Published rows keep the position consumers have already seen
+UPDATE outbox_events SET feed_seq = outbox_id WHERE published_at IS NOT NULL;
+COMMIT;
+
+DECLARE
+    v_start NUMBER;
+BEGIN
+    SELECT NVL(MAX(outbox_id), 0) + 1 INTO v_start FROM outbox_events;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE OUTBOX_FEED_SEQ START WITH ' || v_start
+        || ' INCREMENT BY 1 NOCACHE ORDER';
+END;
+/
+
+CREATE UNIQUE INDEX uk_outbox_feed_seq ON outbox_events(feed_seq);
+CREATE INDEX idx_outbox_feed ON outbox_events(aggregate_type, feed_seq);
@@ -0,0 +1,7 @@
+-- Change log values are cut at 1000 characters (ChangeLogEventListener), but VARCHAR2(1000) means
+-- 1000 bytes under the default length semantics: Korean text takes 3 bytes per character in
+-- AL32UTF8, so a cut value could still fail with ORA-12899 and take the whole batch insert with it.
+ALTER TABLE audit_change_log MODIFY (
+    old_value VARCHAR2(1000 CHAR),
+    new_value VARCHAR2(1000 CHAR)
+);
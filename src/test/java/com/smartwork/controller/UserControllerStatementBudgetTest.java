@@ -0,0 +1,139 @@
+package com.smartwork.controller;
+
+import com.smartwork.domain.Permission;
+import com.smartwork.domain.Role;
+import com.smartwork.domain.User;
+import com.smartwork.repository.UserRepository;
+import com.smartwork.sql.StatementBudgetExceededException;
+import com.smartwork.sql.StatementBudgetProperties;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The test profile runs {@code sql-budget.mode: fail}: a request that exceeds its statement budget
+ * or repeats a statement shape (N+1) aborts instead of only logging a warning.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class UserControllerStatementBudgetTest {
+
+    private static final int USERS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatementBudgetProperties budgetProperties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void createUsersWithRoles() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Role> roles = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                Permission permission = Permission.builder()
+                    .permissionName("BUDGET_PERMISSION_" + r)
+                    .resourceType(Permission.ResourceType.USER)
+                    .build();
+                entityManager.persist(permission);
+                Role role = Role.builder().roleName("BUDGET_ROLE_" + r).build();
+                role.addPermission(permission);
+                entityManager.persist(role);
+                roles.add(role);
+            }
+            for (int i = 0; i < USERS; i++) {
+                User user = User.builder()
+                    .username("budget.user" + i)
+                    .password("{noop}password")
+                    .email("budget.user" + i + "@smartwork.com")
+                    .name("Budget User " + i)
+                    .build();
+                // Distinct role sets, so lazily loading them per user would run a statement per user
+                user.addRole(roles.get(i % roles.size()));
+                user.addRole(roles.get((i + 1) % roles.size()));
+                entityManager.persist(user);
+                userIds.add(user.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void deleteUsersAndRoles() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("DELETE FROM user_roles").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM role_permissions").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+            entityManager.createQuery("DELETE FROM Role").executeUpdate();
+            entityManager.createQuery("DELETE FROM Permission").executeUpdate();
+        });
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    void getAllUsersStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/users").param("size", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content.length()").value(20))
+            .andExpect(jsonPath("$.data.content[0].roleNames.length()").value(2));
+    }
+
+    @Test
+    void getUserByIdStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", userIds.get(0)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.username").value("budget.user0"))
+            .andExpect(jsonPath("$.data.roleNames.length()").value(2));
+    }
+
+    @Test
+    void exceedingTheBudgetFailsTheRequest() throws Exception {
+        Integer budget = budgetProperties.getEndpoints().put("UserController.getUserById", 1);
+        try {
+            MvcResult result = mockMvc.perform(get("/api/users/{id}", userIds.get(0)))
+                .andExpect(status().isInternalServerError())
+                .andReturn();
+
+            assertThat(NestedExceptionUtils.getMostSpecificCause(result.getResolvedException()))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("UserController.getUserById executed 2 statements (budget 1)");
+        } finally {
+            // The properties are shared by every test in the cached context
+            if (budget == null) {
+                budgetProperties.getEndpoints().remove("UserController.getUserById");
+            } else {
+                budgetProperties.getEndpoints().put("UserController.getUserById", budget);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.smartwork.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GramsTest {
+
+    @Test
+    void queryGramsAreBigramsOrTheSingleCharacter() {
+        assertThat(Grams.queryGrams("홍길동")).containsExactly(
+            Grams.bigram('홍', '길'), Grams.bigram('길', '동'));
+        assertThat(Grams.queryGrams("홍")).containsExactly(Grams.unigram('홍'));
+        assertThat(Grams.queryGrams("")).isEmpty();
+    }
+
+    @Test
+    void fieldGramsCoverEverySubstringOfTheValue() {
+        String value = "홍길동dev팀";
+        Set<Integer> grams = fieldGrams(value);
+        for (int from = 0; from < value.length(); from++) {
+            for (int to = from + 1; to <= value.length(); to++) {
+                for (int gram : Grams.queryGrams(value.substring(from, to))) {
+                    assertThat(grams).contains(gram);
+                }
+            }
+        }
+    }
+
+    @Test
+    void fieldGramsIncludeHalfTypedForms() {
+        Set<Integer> grams = fieldGrams("홍길동");
+
+        assertThat(grams).contains(Grams.bigram('홍', '기'), Grams.bigram('길', '도'));
+        assertThat(grams).doesNotContain(Grams.bigram('호', '길'));
+
+        assertThat(fieldGrams("곽")).contains(Grams.unigram('고'), Grams.unigram('과'));
+    }
+
+    @Test
+    void fieldGramsIncludeChosung() {
+        Set<Integer> grams = fieldGrams("홍길동");
+
+        assertThat(grams).contains(Grams.unigram('ㅎ'), Grams.unigram('ㄱ'), Grams.unigram('ㄷ'));
+        assertThat(grams).contains(Grams.bigram('ㅎ', 'ㄱ'), Grams.bigram('ㄱ', 'ㄷ'));
+    }
+
+    @Test
+    void latinValuesHaveOnlyTheirOwnGrams() {
+        assertThat(fieldGrams("dev")).containsExactlyInAnyOrder(
+            Grams.unigram('d'), Grams.unigram('e'), Grams.unigram('v'),
+            Grams.bigram('d', 'e'), Grams.bigram('e', 'v'));
+    }
+
+    @Test
+    void keyBufferGrows() {
+        Grams.KeyBuffer buffer = new Grams.KeyBuffer();
+        for (int key = 0; key < 1000; key++) {
+            buffer.add(key);
+        }
+        assertThat(buffer.size()).isEqualTo(1000);
+        assertThat(buffer.keys()[999]).isEqualTo(999);
+
+        buffer.clear();
+        assertThat(buffer.size()).isZero();
+    }
+
+    private static Set<Integer> fieldGrams(String value) {
+        Grams.KeyBuffer buffer = new Grams.KeyBuffer();
+        Grams.addFieldGrams(value, buffer);
+        return Arrays.stream(buffer.keys(), 0, buffer.size()).boxed().collect(Collectors.toSet());
+    }
+}
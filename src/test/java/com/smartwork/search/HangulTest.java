@@ -0,0 +1,73 @@
+package com.smartwork.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulTest {
+
+    @Test
+    void chosungOfSyllablesOnly() {
+        assertThat(Hangul.chosung('김')).isEqualTo('ㄱ');
+        assertThat(Hangul.chosung('힣')).isEqualTo('ㅎ');
+        assertThat(Hangul.chosung('ㄲ')).isEqualTo('ㄲ');
+        assertThat(Hangul.chosung('a')).isEqualTo('a');
+    }
+
+    @Test
+    void chosungQueryIsConsonantsOnly() {
+        assertThat(Hangul.isChosungQuery("ㄱㄷ")).isTrue();
+        assertThat(Hangul.isChosungQuery("ㄱㅏ")).isFalse();
+        assertThat(Hangul.isChosungQuery("ㄱa")).isFalse();
+        assertThat(Hangul.isChosungQuery("")).isFalse();
+    }
+
+    @Test
+    void jamoSplitsCompoundVowelsAndFinals() {
+        assertThat(Hangul.toJamo("홍길동")).isEqualTo("ㅎㅗㅇㄱㅣㄹㄷㅗㅇ");
+        assertThat(Hangul.toJamo("곽")).isEqualTo("ㄱㅗㅏㄱ");
+        assertThat(Hangul.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(Hangul.toJamo("김ㅊ")).isEqualTo("ㄱㅣㅁㅊ");
+        assertThat(Hangul.toJamo("kim")).isEqualTo("kim");
+    }
+
+    @Test
+    void typingFormsAreTheSyllablesPassedThrough() {
+        char[] forms = new char[3];
+
+        assertThat(Hangul.typingForms('곽', forms)).isEqualTo(2);
+        assertThat(new String(forms, 0, 2)).isEqualTo("고과");
+
+        assertThat(Hangul.typingForms('닭', forms)).isEqualTo(2);
+        assertThat(new String(forms, 0, 2)).isEqualTo("다달");
+
+        assertThat(Hangul.typingForms('꽑', forms)).isEqualTo(3);
+        assertThat(new String(forms, 0, 3)).isEqualTo("꼬꽈꽐");
+
+        assertThat(Hangul.typingForms('가', forms)).isZero();
+        assertThat(Hangul.typingForms('ㄱ', forms)).isZero();
+    }
+
+    @Test
+    void indexOfChosung() {
+        assertThat(Hangul.indexOfChosung("홍길동", "ㅎㄱㄷ")).isZero();
+        assertThat(Hangul.indexOfChosung("홍길동", "ㄱㄷ")).isEqualTo(1);
+        assertThat(Hangul.indexOfChosung("홍길동", "ㄷㄱ")).isEqualTo(-1);
+        assertThat(Hangul.indexOfChosung("홍", "ㅎㄱ")).isEqualTo(-1);
+    }
+
+    @Test
+    void indexOfJamoMatchesHalfTypedLastSyllable() {
+        assertThat(Hangul.indexOfJamo("홍길동", Hangul.toJamo("홍기"))).isZero();
+        assertThat(Hangul.indexOfJamo("김철수", Hangul.toJamo("김ㅊ"))).isZero();
+        assertThat(Hangul.indexOfJamo("김철수", Hangul.toJamo("처"))).isEqualTo(1);
+        assertThat(Hangul.indexOfJamo("곽두팔", Hangul.toJamo("고"))).isZero();
+        assertThat(Hangul.indexOfJamo("홍길동", Hangul.toJamo("호기"))).isEqualTo(-1);
+    }
+
+    @Test
+    void indexOfJamoStartsAtSyllableBoundaries() {
+        assertThat(Hangul.indexOfJamo("동일", "ㅇㅇ")).isEqualTo(-1);
+        assertThat(Hangul.indexOfJamo("동일", "ㅇㅣ")).isEqualTo(1);
+    }
+}
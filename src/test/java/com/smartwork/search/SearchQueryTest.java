@@ -0,0 +1,69 @@
+package com.smartwork.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchQueryTest {
+
+    @Test
+    void nothingSearchable() {
+        assertThat(SearchQuery.parse(null)).isNull();
+        assertThat(SearchQuery.parse("   ")).isNull();
+        assertThat(SearchQuery.parse("ㅏ")).isNull();
+    }
+
+    @Test
+    void literalMatchTiers() {
+        SearchQuery exact = SearchQuery.parse("홍길동");
+        SearchQuery prefix = SearchQuery.parse("홍길");
+        SearchQuery contains = SearchQuery.parse("길동");
+
+        assertThat(exact.score("홍길동", SearchField.NAME)).isEqualTo(8 * 3);
+        assertThat(prefix.score("홍길동", SearchField.NAME)).isEqualTo(4 * 3);
+        assertThat(contains.score("홍길동", SearchField.NAME)).isEqualTo(2 * 3);
+        assertThat(exact.score("김철수", SearchField.NAME)).isZero();
+        assertThat(exact.score(null, SearchField.NAME)).isZero();
+    }
+
+    @Test
+    void fieldWeights() {
+        SearchQuery query = SearchQuery.parse("개발");
+
+        assertThat(query.score("개발", SearchField.NAME)).isEqualTo(8 * 3);
+        assertThat(query.score("개발팀", SearchField.DEPARTMENT)).isEqualTo(4 * 2);
+        assertThat(query.score("개발자", SearchField.POSITION)).isEqualTo(4);
+    }
+
+    @Test
+    void chosungQuery() {
+        SearchQuery query = SearchQuery.parse("ㄱㄷ");
+
+        assertThat(query.grams()).containsExactly(Grams.bigram('ㄱ', 'ㄷ'));
+        assertThat(query.score("김동수", SearchField.NAME)).isEqualTo(2 * 3);
+        assertThat(query.score("홍길동", SearchField.NAME)).isEqualTo(3);
+        assertThat(query.score("김철수", SearchField.NAME)).isZero();
+    }
+
+    @Test
+    void halfTypedLastSyllable() {
+        SearchQuery syllable = SearchQuery.parse("홍기");
+        assertThat(syllable.grams()).containsExactly(Grams.bigram('홍', '기'));
+        assertThat(syllable.score("홍길동", SearchField.NAME)).isEqualTo(2 * 3);
+        assertThat(syllable.score("김홍길", SearchField.NAME)).isEqualTo(3);
+
+        SearchQuery consonant = SearchQuery.parse("김ㅊ");
+        assertThat(consonant.grams()).containsExactly(Grams.unigram('김'));
+        assertThat(consonant.score("김철수", SearchField.NAME)).isEqualTo(2 * 3);
+        assertThat(consonant.score("박김철", SearchField.NAME)).isEqualTo(3);
+        assertThat(consonant.score("김수철", SearchField.NAME)).isZero();
+    }
+
+    @Test
+    void normalizedLikeTheIndex() {
+        SearchQuery query = SearchQuery.parse(" Dev Team ");
+
+        assertThat(query.score(SearchDocument.normalize("DevTeam"), SearchField.DEPARTMENT)).isEqualTo(8 * 2);
+        assertThat(query.score(SearchDocument.normalize("Dev Team 2"), SearchField.DEPARTMENT)).isEqualTo(4 * 2);
+    }
+}
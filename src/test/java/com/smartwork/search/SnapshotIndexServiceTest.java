@@ -0,0 +1,180 @@
+package com.smartwork.search;
+
+import com.smartwork.cache.InvalidationTransport;
+import com.smartwork.domain.User;
+import com.smartwork.dto.user.UserSearchResultDto;
+import com.smartwork.event.UserChangedEvent;
+import com.smartwork.event.UserLoggedInEvent;
+import com.smartwork.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search and suggest share the snapshot-plus-overlay lifecycle: a rebuild from the database,
+ * then committed changes applied to the overlay without waiting for the next rebuild.
+ */
+@SpringBootTest(properties = {
+    "search.enabled=true",
+    "suggest.enabled=true",
+    // Own database: this context is cached next to the default test context
+    "spring.datasource.url=jdbc:h2:mem:snapshot-index;MODE=Oracle;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000"
+})
+@ActiveProfiles("test")
+class SnapshotIndexServiceTest {
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private UserSuggestService userSuggestService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * The loopback transport delivers across every context in the JVM; users other test contexts
+     * invalidate are missing from this database and would be removed from these indexes
+     */
+    @MockBean
+    private InvalidationTransport invalidationTransport;
+
+    private final Map<String, Long> userIds = new HashMap<>();
+
+    @BeforeEach
+    void createUsersAndRebuild() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            createUser("hong", "홍길동", "영업팀");
+            createUser("kim", "김철수", "영업팀");
+            createUser("lee", "이영희", "인사팀");
+        });
+
+        // A rebuild started before the users existed may still be running; keep asking until one sees them
+        awaitTrue(() -> {
+            userSearchService.requestRebuild();
+            userSuggestService.requestRebuild();
+            Long hong = userIds.get("hong");
+            return userSearchService.search("홍길동", 10).stream().anyMatch(result -> result.getId().equals(hong))
+                && userSuggestService.suggest("ㅎㄱ", 10).stream().anyMatch(result -> result.getId().equals(hong));
+        });
+    }
+
+    @AfterEach
+    void deleteUsers() {
+        // Plain SQL so the rows are gone before the next test rebuilds
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE 'lifecycle.%'");
+    }
+
+    @Test
+    void rebuildIndexesActiveUsers() {
+        assertThat(names(userSearchService, "영업")).containsExactlyInAnyOrder("홍길동", "김철수");
+        assertThat(names(userSearchService, "ㅇㅇㅎ")).containsExactly("이영희");
+        assertThat(names(userSuggestService, "lifecycle.")).containsExactly("홍길동", "김철수", "이영희");
+    }
+
+    @Test
+    void committedChangesReachTheOverlay() {
+        updateUser("kim", user -> user.setName("김철민"));
+
+        assertThat(names(userSearchService, "김철민")).containsExactly("김철민");
+        assertThat(names(userSearchService, "김철수")).isEmpty();
+        assertThat(names(userSuggestService, "김철ㅁ")).containsExactly("김철민");
+        assertThat(names(userSuggestService, "김철수")).isEmpty();
+    }
+
+    @Test
+    void usersThatStopBeingActiveAreRemoved() {
+        updateUser("hong", user -> user.setStatus(User.UserStatus.INACTIVE));
+
+        assertThat(names(userSearchService, "영업")).containsExactly("김철수");
+        assertThat(names(userSuggestService, "ㅎㄱ")).isEmpty();
+    }
+
+    @Test
+    void loginsReRankSuggestions() {
+        login("lee", LocalDateTime.now().minusMinutes(5));
+        login("kim", LocalDateTime.now());
+
+        assertThat(names(userSuggestService, "lifecycle.")).containsExactly("김철수", "이영희", "홍길동");
+
+        // A change to a user in the overlay keeps the recency already seen
+        updateUser("lee", user -> user.setDepartment("영업팀"));
+        assertThat(names(userSuggestService, "lifecycle.")).containsExactly("김철수", "이영희", "홍길동");
+    }
+
+    private void createUser(String username, String name, String department) {
+        User user = User.builder()
+            .username("lifecycle." + username)
+            .password("{noop}password")
+            .email(username + "@lifecycle.smartwork.com")
+            .name(name)
+            .department(department)
+            .build();
+        entityManager.persist(user);
+        userIds.put(username, user.getId());
+    }
+
+    private void updateUser(String username, Consumer<User> change) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.find(User.class, userIds.get(username));
+            change.accept(user);
+            eventPublisher.publishEvent(UserChangedEvent.of(UserChangedEvent.ChangeType.UPDATED, user));
+        });
+    }
+
+    private void login(String username, LocalDateTime loginAt) {
+        transactionTemplate.executeWithoutResult(status ->
+            eventPublisher.publishEvent(new UserLoggedInEvent(userIds.get(username), loginAt)));
+    }
+
+    private static List<String> names(UserSearchService service, String text) {
+        return service.search(text, 10).stream().map(UserSearchResultDto::getName).toList();
+    }
+
+    private static List<String> names(UserSuggestService service, String text) {
+        return service.suggest(text, 10).stream().map(UserSearchResultDto::getName).toList();
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            try {
+                if (condition.get()) {
+                    return;
+                }
+            } catch (BusinessException e) {
+                // Index not built yet
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Indexes were not rebuilt within 10 seconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
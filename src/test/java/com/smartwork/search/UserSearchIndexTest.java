@@ -0,0 +1,149 @@
+package com.smartwork.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private static final String SYLLABLES = "김이박최홍길동철수영희곽닭과민준서현";
+    private static final String[] DEPARTMENTS = {"개발팀", "개발1팀", "연구개발", "영업팀", "인사팀", "Dev Team", null};
+    private static final String[] POSITIONS = {"사원", "대리", "과장", "차장", "부장", "개발자", null};
+
+    @Test
+    void findsByNameChosungAndHalfTypedSyllable() {
+        UserSearchIndex index = UserSearchIndex.build(List.of(
+            document(1, "홍길동", "영업팀", "사원"),
+            document(2, "김철수", "인사팀", "대리"),
+            document(3, "곽두팔", "영업팀", "과장")));
+
+        assertThat(userIds(index, "홍길동", 10)).containsExactly(1L);
+        assertThat(userIds(index, "ㅎㄱㄷ", 10)).containsExactly(1L);
+        assertThat(userIds(index, "홍기", 10)).containsExactly(1L);
+        assertThat(userIds(index, "김ㅊ", 10)).containsExactly(2L);
+        assertThat(userIds(index, "고", 10)).containsExactly(3L);
+    }
+
+    @Test
+    void rankedByScoreThenShorterName() {
+        UserSearchIndex index = UserSearchIndex.build(List.of(
+            document(1, "영업왕", "인사팀", "사원"),
+            document(2, "김철수", "영업팀", "사원"),
+            document(3, "박민", "영업팀", "영업")));
+
+        assertThat(userIds(index, "영업", 10)).containsExactly(1L, 3L, 2L);
+        assertThat(userIds(index, "영업", 2)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void supersededDocumentsAreHidden() {
+        UserSearchIndex index = UserSearchIndex.build(List.of(
+            document(1, "홍길동", "영업팀", "사원"),
+            document(2, "홍길순", "영업팀", "사원")));
+
+        index.supersede(1);
+        index.supersede(99);
+
+        assertThat(userIds(index, "홍길", 10)).containsExactly(2L);
+        assertThat(userIds(index, "영업", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void sameResultsAsScoringEveryDocument() {
+        Random random = new Random(42);
+        List<SearchDocument> documents = new ArrayList<>();
+        Set<Long> userIds = new HashSet<>();
+        while (documents.size() < 3000) {
+            long userId = 1 + random.nextInt(1_000_000);
+            if (userIds.add(userId)) {
+                documents.add(document(userId, randomName(random),
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], POSITIONS[random.nextInt(POSITIONS.length)]));
+            }
+        }
+        UserSearchIndex index = UserSearchIndex.build(documents);
+
+        Set<Long> superseded = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            long userId = documents.get(random.nextInt(documents.size())).userId();
+            index.supersede(userId);
+            superseded.add(userId);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            SearchDocument target = documents.get(random.nextInt(documents.size()));
+            String text = randomQuery(random, target);
+            SearchQuery query = SearchQuery.parse(text);
+            if (query == null) {
+                continue;
+            }
+            int limit = 1 + random.nextInt(20);
+
+            UserSearchIndex.TopK topK = new UserSearchIndex.TopK(limit);
+            index.search(query, topK);
+
+            List<SearchHit> expected = documents.stream()
+                .filter(document -> !superseded.contains(document.userId()))
+                .map(document -> new SearchHit(document, UserSearchIndex.score(query, document)))
+                .filter(hit -> hit.score() > 0)
+                .sorted(SearchHit.RANKING)
+                .limit(limit)
+                .toList();
+            assertThat(topK.result()).as("query '%s', limit %d", text, limit).isEqualTo(expected);
+        }
+    }
+
+    private static String randomQuery(Random random, SearchDocument target) {
+        String value = switch (random.nextInt(4)) {
+            case 0 -> target.department();
+            case 1 -> target.position();
+            default -> target.name();
+        };
+        if (value == null) {
+            value = target.name();
+        }
+        int from = random.nextInt(value.length());
+        String text = value.substring(from, from + 1 + random.nextInt(value.length() - from));
+        return switch (random.nextInt(4)) {
+            // Initial consonants
+            case 0 -> text.chars()
+                .mapToObj(c -> String.valueOf(Hangul.chosung((char) c)))
+                .reduce("", String::concat);
+            // Last syllable half-typed: a form it passes through, or its initial consonant
+            case 1 -> {
+                char last = text.charAt(text.length() - 1);
+                char[] forms = new char[3];
+                int count = Hangul.typingForms(last, forms);
+                char typed = count > 0 && random.nextBoolean() ? forms[random.nextInt(count)] : Hangul.chosung(last);
+                yield text.substring(0, text.length() - 1) + typed;
+            }
+            default -> text;
+        };
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(3);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return name.toString();
+    }
+
+    private static SearchDocument document(long userId, String name, String department, String position) {
+        return new SearchDocument(userId, "user" + userId, "E" + userId, name, department, position);
+    }
+
+    private static List<Long> userIds(UserSearchIndex index, String text, int limit) {
+        UserSearchIndex.TopK topK = new UserSearchIndex.TopK(limit);
+        index.search(SearchQuery.parse(text), topK);
+        return topK.result().stream()
+            .map(hit -> hit.document().userId())
+            .toList();
+    }
+}
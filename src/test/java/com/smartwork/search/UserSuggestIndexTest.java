@@ -0,0 +1,181 @@
+package com.smartwork.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSuggestIndexTest {
+
+    private static final String SYLLABLES = "김이박최홍길동철수영희곽닭과민준서현";
+
+    @Test
+    void keysAreUsernameEmployeeIdJamoAndChosung() {
+        SearchDocument document = document(1, "Hong.GD", "E001", "홍길동");
+
+        assertThat(UserSuggestIndex.keysOf(document))
+            .containsExactly("hong.gd", "e001", "ㅎㅗㅇㄱㅣㄹㄷㅗㅇ", "ㅎㄱㄷ");
+        assertThat(UserSuggestIndex.keysOf(document(2, "kim", "kim", null))).containsExactly("kim");
+    }
+
+    @Test
+    void prefixIsTheNormalizedKeystrokes() {
+        assertThat(UserSuggestIndex.prefixOf(" 홍기 ")).isEqualTo("ㅎㅗㅇㄱㅣ");
+        assertThat(UserSuggestIndex.prefixOf("E00")).isEqualTo("e00");
+        assertThat(UserSuggestIndex.prefixOf("  ")).isNull();
+        assertThat(UserSuggestIndex.prefixOf(null)).isNull();
+    }
+
+    @Test
+    void matchesEveryKeyByPrefix() {
+        UserSuggestIndex index = UserSuggestIndex.build(List.of(
+            new Suggestion(document(1, "hong", "E001", "홍길동"), 0),
+            new Suggestion(document(2, "kim", "E002", "김철수"), 0)));
+
+        assertThat(userIds(index, "ho", 10)).containsExactly(1L);
+        assertThat(userIds(index, "e00", 10)).containsExactly(1L, 2L);
+        assertThat(userIds(index, "ㅎㄱ", 10)).containsExactly(1L);
+        assertThat(userIds(index, "길동", 10)).isEmpty();
+        assertThat(userIds(index, "x", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesHalfTypedLastSyllable() {
+        UserSuggestIndex index = UserSuggestIndex.build(List.of(
+            new Suggestion(document(1, "hong", "E001", "홍길동"), 0),
+            new Suggestion(document(2, "kwak", "E002", "곽두팔"), 0),
+            new Suggestion(document(3, "kim", "E003", "김철수"), 0)));
+
+        assertThat(userIds(index, "홍기", 10)).containsExactly(1L);
+        assertThat(userIds(index, "홍길ㄷ", 10)).containsExactly(1L);
+        assertThat(userIds(index, "고", 10)).containsExactly(2L);
+        assertThat(userIds(index, "김ㅊ", 10)).containsExactly(3L);
+    }
+
+    @Test
+    void mostRecentFirstAndEachUserOnce() {
+        UserSuggestIndex index = UserSuggestIndex.build(List.of(
+            new Suggestion(document(1, "e100", "E1001", "홍길동"), 10),
+            new Suggestion(document(2, "e200", "E2002", "김철수"), 30),
+            new Suggestion(document(3, "e300", "E3003", "이영희"), 20),
+            new Suggestion(document(4, "e400", "E4004", "박민준"), 20)));
+
+        assertThat(userIds(index, "e", 10)).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(userIds(index, "e", 2)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void touchReRanksAndNeverLowers() {
+        UserSuggestIndex index = UserSuggestIndex.build(List.of(
+            new Suggestion(document(1, "lee1", "E1", "이영희"), 10),
+            new Suggestion(document(2, "lee2", "E2", "이민준"), 20),
+            new Suggestion(document(3, "lee3", "E3", "이서현"), 30)));
+
+        index.touch(1, 40);
+        assertThat(userIds(index, "lee", 10)).containsExactly(1L, 3L, 2L);
+        assertThat(userIds(index, "ㅇ", 1)).containsExactly(1L);
+        assertThat(index.recencyOf(1)).isEqualTo(40);
+
+        index.touch(3, 5);
+        index.touch(99, 50);
+        assertThat(userIds(index, "lee", 10)).containsExactly(1L, 3L, 2L);
+        assertThat(index.recencyOf(3)).isEqualTo(30);
+        assertThat(index.recencyOf(99)).isEqualTo(-1);
+    }
+
+    @Test
+    void supersededUsersAreHidden() {
+        UserSuggestIndex index = UserSuggestIndex.build(List.of(
+            new Suggestion(document(1, "lee1", "E1", "이영희"), 30),
+            new Suggestion(document(2, "lee2", "E2", "이민준"), 20),
+            new Suggestion(document(3, "lee3", "E3", "이서현"), 10)));
+
+        index.supersede(1);
+
+        assertThat(userIds(index, "lee", 10)).containsExactly(2L, 3L);
+        assertThat(userIds(index, "lee", 1)).containsExactly(2L);
+    }
+
+    @Test
+    void sameResultsAsScanningEveryKey() {
+        Random random = new Random(7);
+        List<Suggestion> suggestions = new ArrayList<>();
+        Set<Long> userIds = new HashSet<>();
+        while (suggestions.size() < 2000) {
+            long userId = 1 + random.nextInt(1_000_000);
+            if (userIds.add(userId)) {
+                String name = randomName(random);
+                suggestions.add(new Suggestion(
+                    document(userId, "u" + random.nextInt(500), "E" + userId, name), random.nextInt(100)));
+            }
+        }
+        UserSuggestIndex index = UserSuggestIndex.build(suggestions);
+
+        Map<Long, Suggestion> expected = new HashMap<>();
+        for (Suggestion suggestion : suggestions) {
+            expected.put(suggestion.document().userId(), suggestion);
+        }
+
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                Suggestion suggestion = suggestions.get(random.nextInt(suggestions.size()));
+                long userId = suggestion.document().userId();
+                int recency = random.nextInt(200);
+                index.touch(userId, recency);
+                expected.computeIfPresent(userId, (id, current) -> current.withRecency(recency));
+            }
+            for (int i = 0; i < 5; i++) {
+                long userId = suggestions.get(random.nextInt(suggestions.size())).document().userId();
+                index.supersede(userId);
+                expected.remove(userId);
+            }
+
+            for (int i = 0; i < 25; i++) {
+                SearchDocument target = suggestions.get(random.nextInt(suggestions.size())).document();
+                List<String> keys = UserSuggestIndex.keysOf(target);
+                String key = keys.get(random.nextInt(keys.size()));
+                String prefix = key.substring(0, 1 + random.nextInt(key.length()));
+                int limit = 1 + random.nextInt(20);
+
+                List<Suggestion> actual = new ArrayList<>();
+                index.top(prefix, limit, actual);
+
+                List<Suggestion> scanned = expected.values().stream()
+                    .filter(suggestion -> UserSuggestIndex.keysOf(suggestion.document()).stream()
+                        .anyMatch(candidate -> candidate.startsWith(prefix)))
+                    .sorted(Suggestion.RANKING)
+                    .limit(limit)
+                    .toList();
+                assertThat(actual).as("prefix '%s', limit %d", prefix, limit).isEqualTo(scanned);
+            }
+        }
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(3);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return name.toString();
+    }
+
+    private static SearchDocument document(long userId, String username, String employeeId, String name) {
+        return new SearchDocument(userId, username, employeeId, name, "개발팀", "사원");
+    }
+
+    private static List<Long> userIds(UserSuggestIndex index, String text, int limit) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        index.top(UserSuggestIndex.prefixOf(text), limit, suggestions);
+        return suggestions.stream()
+            .map(suggestion -> suggestion.document().userId())
+            .toList();
+    }
+}
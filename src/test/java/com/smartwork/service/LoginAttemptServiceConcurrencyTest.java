@@ -0,0 +1,105 @@
+package com.smartwork.service;
+
+import com.smartwork.domain.User;
+import com.smartwork.dto.auth.LoginRequest;
+import com.smartwork.exception.BusinessException;
+import com.smartwork.exception.ErrorCode;
+import com.smartwork.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent failed logins against one account (the in-build counterpart of scripts/verify-lockout.sh):
+ * no failure may be lost and the account must lock on exactly the configured attempt.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoginAttemptServiceConcurrencyTest {
+
+    private static final String USERNAME = "lockout.probe";
+    private static final int ATTEMPTS = 300;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${auth.lockout.max-failed-attempts}")
+    private int maxFailedAttempts;
+
+    @BeforeEach
+    void createUser() {
+        userRepository.save(User.builder()
+            .username(USERNAME)
+            .password(passwordEncoder.encode("correct-password"))
+            .email("lockout.probe@smartwork.com")
+            .name("Lockout Probe")
+            .build());
+    }
+
+    @AfterEach
+    void deleteUser() {
+        userRepository.findByUsername(USERNAME).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void parallelFailuresLockOnExactlyTheThreshold() throws Exception {
+        List<ErrorCode> outcomes = loginInParallel("wrong-password");
+
+        assertThat(outcomes).filteredOn(code -> code == ErrorCode.INVALID_CREDENTIALS).hasSize(maxFailedAttempts);
+        assertThat(outcomes).filteredOn(code -> code == ErrorCode.ACCOUNT_LOCKED).hasSize(ATTEMPTS - maxFailedAttempts);
+
+        User user = userRepository.findByUsername(USERNAME).orElseThrow();
+        assertThat(user.getFailedLoginAttempts()).isEqualTo(maxFailedAttempts);
+        assertThat(user.getStatus()).isEqualTo(User.UserStatus.LOCKED);
+        assertThat(user.getLockedUntil()).isNotNull();
+    }
+
+    private List<ErrorCode> loginInParallel(String password) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ErrorCode>> futures = new ArrayList<>(ATTEMPTS);
+            for (int i = 0; i < ATTEMPTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.login(new LoginRequest(USERNAME, password));
+                        return null;
+                    } catch (BusinessException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<ErrorCode> outcomes = new ArrayList<>(ATTEMPTS);
+            for (Future<ErrorCode> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}